@@ -0,0 +1,89 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.benchmark;
+
+import com.loohp.lotterysix.game.lottery.PlayableLotterySixGame;
+import com.loohp.lotterysix.game.objects.AddBetResult;
+import com.loohp.lotterysix.game.objects.PlayerBets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddBetBenchmark {
+
+    private static final int BETS = 1 << 16;
+
+    @State(Scope.Benchmark)
+    public static class GameState {
+
+        public List<PlayerBets> playerBets;
+        public PlayableLotterySixGame game;
+        public AtomicInteger counter;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            playerBets = SyntheticBets.playerBets(BETS, 256, 5);
+        }
+
+        @Setup(Level.Iteration)
+        public void setupIteration() {
+            game = PlayableLotterySixGame.createNewGame(null, System.currentTimeMillis(), null, Collections.emptyMap(), 0, 8000000, Collections.emptyList());
+            counter = new AtomicInteger();
+        }
+
+        public PlayerBets next() {
+            return playerBets.get(counter.getAndIncrement() & (BETS - 1));
+        }
+
+    }
+
+    @Benchmark
+    @Threads(1)
+    public AddBetResult addBetSingleThread(GameState state) {
+        return state.game.addBet(state.next());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public AddBetResult addBetContended(GameState state) {
+        return state.game.addBet(state.next());
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.benchmark;
+
+import com.loohp.lotterysix.game.objects.WinningNumbers;
+import com.loohp.lotterysix.game.objects.betnumbers.BetNumbers;
+import com.loohp.lotterysix.game.objects.betnumbers.BetNumbersType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CheckWinningBenchmark {
+
+    private static final int BETS = 1024;
+
+    @Param({"RANDOM", "MULTIPLE_RANDOM", "BANKER_RANDOM"})
+    public BetNumbersType type;
+
+    private WinningNumbers winningNumbers;
+    private List<BetNumbers> betNumbers;
+
+    @Setup
+    public void setup() {
+        winningNumbers = SyntheticBets.winningNumbers(1);
+        betNumbers = SyntheticBets.betNumbers(type, BETS, 2);
+    }
+
+    @Benchmark
+    public void checkWinning(Blackhole blackhole) {
+        for (BetNumbers numbers : betNumbers) {
+            winningNumbers.checkWinning(numbers).forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void countWinningByTier(Blackhole blackhole) {
+        for (BetNumbers numbers : betNumbers) {
+            blackhole.consume(winningNumbers.countWinningByTier(numbers));
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.benchmark;
+
+import com.loohp.lotterysix.game.LotterySix;
+import com.loohp.lotterysix.game.lottery.CompletedLotterySixGame;
+import com.loohp.lotterysix.game.lottery.PlayableLotterySixGame;
+import com.loohp.lotterysix.game.objects.CarryOverMode;
+import com.loohp.lotterysix.game.objects.PrizeCalculationMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GsonRoundTripBenchmark {
+
+    @Param({"1000", "100000"})
+    public int bets;
+
+    private CompletedLotterySixGame completedGame;
+    private String json;
+
+    @Setup
+    public void setup() {
+        PlayableLotterySixGame game = PlayableLotterySixGame.createNewGame(null, System.currentTimeMillis(), null, Collections.emptyMap(), 0, 8000000, SyntheticBets.playerBets(bets, Math.max(1, bets / 20), 6));
+        completedGame = game.runLottery(SyntheticBets.MAX_NUMBER, SyntheticBets.PRICE_PER_BET, Long.MAX_VALUE, 0.25, SyntheticBets.winningNumbers(7), PrizeCalculationMode.HKJC, CarryOverMode.ONLY_TICKET_SALES);
+        json = LotterySix.GSON.toJson(completedGame);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return LotterySix.GSON.toJson(completedGame);
+    }
+
+    @Benchmark
+    public CompletedLotterySixGame deserialize() {
+        return LotterySix.GSON.fromJson(json, CompletedLotterySixGame.class);
+    }
+
+    @Benchmark
+    public CompletedLotterySixGame roundTrip() {
+        return LotterySix.GSON.fromJson(LotterySix.GSON.toJson(completedGame), CompletedLotterySixGame.class);
+    }
+
+}
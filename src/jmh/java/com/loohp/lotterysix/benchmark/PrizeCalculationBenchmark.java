@@ -0,0 +1,79 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.benchmark;
+
+import com.loohp.lotterysix.game.lottery.PlayableLotterySixGame;
+import com.loohp.lotterysix.game.objects.CarryOverMode;
+import com.loohp.lotterysix.game.objects.PlayerBets;
+import com.loohp.lotterysix.game.objects.PrizeCalculationMode;
+import com.loohp.lotterysix.game.objects.WinningNumbers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4G")
+public class PrizeCalculationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int bets;
+
+    @Param({"HKJC", "UNREALISTIC_FOR_FUN"})
+    public PrizeCalculationMode prizeCalculationMode;
+
+    private List<PlayerBets> playerBets;
+    private WinningNumbers winningNumbers;
+    private PlayableLotterySixGame game;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        playerBets = SyntheticBets.playerBets(bets, Math.max(1, bets / 20), 3);
+        winningNumbers = SyntheticBets.winningNumbers(4);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        game = PlayableLotterySixGame.createNewGame(null, System.currentTimeMillis(), null, Collections.emptyMap(), 0, 8000000, playerBets);
+    }
+
+    @Benchmark
+    public Object runLottery() {
+        return game.runLottery(SyntheticBets.MAX_NUMBER, SyntheticBets.PRICE_PER_BET, Long.MAX_VALUE, 0.25, winningNumbers, prizeCalculationMode, CarryOverMode.ONLY_TICKET_SALES);
+    }
+
+}
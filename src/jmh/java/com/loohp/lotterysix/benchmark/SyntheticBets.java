@@ -0,0 +1,100 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.benchmark;
+
+import com.loohp.lotterysix.game.objects.BetUnitType;
+import com.loohp.lotterysix.game.objects.PlayerBets;
+import com.loohp.lotterysix.game.objects.WinningNumbers;
+import com.loohp.lotterysix.game.objects.betnumbers.BetNumbers;
+import com.loohp.lotterysix.game.objects.betnumbers.BetNumbersType;
+import com.loohp.lotterysix.utils.MathUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class SyntheticBets {
+
+    public static final int MAX_NUMBER = 49;
+    public static final long PRICE_PER_BET = 10;
+
+    public static BetNumbers betNumbers(BetNumbersType type, Random random) {
+        switch (type) {
+            case RANDOM: {
+                return BetNumbers.restore(null, distinctNumbers(random, 6, Collections.emptyList()), null, BetNumbersType.RANDOM);
+            }
+            case MULTIPLE_RANDOM: {
+                return BetNumbers.restore(null, distinctNumbers(random, 7 + random.nextInt(4), Collections.emptyList()), null, BetNumbersType.MULTIPLE_RANDOM);
+            }
+            case BANKER_RANDOM: {
+                int bankerSize = 1 + random.nextInt(5);
+                List<Integer> bankers = distinctNumbers(random, bankerSize, Collections.emptyList());
+                List<Integer> selections = distinctNumbers(random, 7 - bankerSize + random.nextInt(4), bankers);
+                return BetNumbers.restore(bankers, selections, null, BetNumbersType.BANKER_RANDOM);
+            }
+            default: {
+                throw new IllegalArgumentException("Unsupported synthetic bet type " + type);
+            }
+        }
+    }
+
+    private static List<Integer> distinctNumbers(Random random, int size, List<Integer> excluded) {
+        return random.ints(1, MAX_NUMBER + 1).filter(i -> !excluded.contains(i)).distinct().limit(size).boxed().collect(Collectors.toList());
+    }
+
+    public static List<BetNumbers> betNumbers(BetNumbersType type, int count, long seed) {
+        Random random = new Random(seed);
+        List<BetNumbers> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(betNumbers(type, random));
+        }
+        return list;
+    }
+
+    public static List<PlayerBets> playerBets(int count, int players, long seed) {
+        Random random = new Random(seed);
+        BetNumbersType[] types = {BetNumbersType.RANDOM, BetNumbersType.RANDOM, BetNumbersType.RANDOM, BetNumbersType.MULTIPLE_RANDOM, BetNumbersType.BANKER_RANDOM};
+        List<UUID> uuids = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            uuids.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        List<PlayerBets> list = new ArrayList<>(count);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            UUID player = uuids.get(random.nextInt(players));
+            BetNumbers numbers = betNumbers(types[random.nextInt(types.length)], random);
+            BetUnitType unitType = random.nextInt(4) == 0 ? BetUnitType.PARTIAL : BetUnitType.FULL;
+            long combinations = numbers.isCombination() ? MathUtils.combinationsCount(numbers.getNumbers().size(), numbers.getBankersNumbers().size()) : numbers.getSetsSize();
+            long price = PRICE_PER_BET / unitType.getDivisor() * combinations;
+            list.add(new PlayerBets(player.toString().substring(0, 8), player, now, i, price, unitType, numbers, 1));
+        }
+        return list;
+    }
+
+    public static WinningNumbers winningNumbers(long seed) {
+        List<Integer> numbers = new Random(seed).ints(1, MAX_NUMBER + 1).distinct().limit(7).boxed().collect(Collectors.toList());
+        return new WinningNumbers(numbers.subList(0, 6), numbers.get(6));
+    }
+
+}
@@ -23,10 +23,12 @@ package com.loohp.lotterysix;
 import com.cronutils.model.Cron;
 import com.loohp.lotterysix.debug.Debug;
 import com.loohp.lotterysix.game.lottery.PlayableLotterySixGame;
+import com.loohp.lotterysix.game.objects.ArchiveFormat;
 import com.loohp.lotterysix.game.objects.Pair;
 import com.loohp.lotterysix.game.objects.PlayerBets;
 import com.loohp.lotterysix.game.objects.PlayerPreferenceKey;
 import com.loohp.lotterysix.game.objects.PlayerStatsKey;
+import com.loohp.lotterysix.game.objects.PlayerStorageType;
 import com.loohp.lotterysix.game.objects.WinningNumbers;
 import com.loohp.lotterysix.game.objects.betnumbers.BetNumbersBuilder;
 import com.loohp.lotterysix.game.objects.betnumbers.BetNumbersType;
@@ -52,6 +54,8 @@ import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -397,6 +401,57 @@ public class Commands implements CommandExecutor, TabCompleter {
                         }
                     }
                     Debug.debugLotteryPlayer(sender, player, maxPastGames);
+                } else {
+                    Debug.debugCompletedGameCache(sender);
+                    Debug.debugPluginMessaging(sender);
+                }
+            } else {
+                sender.sendMessage(LotterySixPlugin.getInstance().messageNoPermission);
+            }
+            return true;
+        } else if (args[0].equalsIgnoreCase("migratearchives")) {
+            if (sender.hasPermission("lotterysix.migratearchives")) {
+                if (args.length > 1) {
+                    ArchiveFormat format;
+                    try {
+                        format = ArchiveFormat.fromName(args[1].toUpperCase());
+                    } catch (IllegalArgumentException e) {
+                        sender.sendMessage(LotterySixPlugin.getInstance().messageInvalidUsage);
+                        return true;
+                    }
+                    Future<Integer> future = LotterySixPlugin.getInstance().migrateArchives(format);
+                    Scheduler.runTaskAsynchronously(LotterySixPlugin.plugin, () -> {
+                        try {
+                            sender.sendMessage(ChatColor.GREEN + "[LotterySix] Migrated " + future.get() + " past game archives to " + format.name());
+                        } catch (InterruptedException | ExecutionException e) {
+                            e.printStackTrace();
+                        }
+                    });
+                } else {
+                    sender.sendMessage(LotterySixPlugin.getInstance().messageInvalidUsage);
+                }
+            } else {
+                sender.sendMessage(LotterySixPlugin.getInstance().messageNoPermission);
+            }
+            return true;
+        } else if (args[0].equalsIgnoreCase("migrateplayers")) {
+            if (sender.hasPermission("lotterysix.migrateplayers")) {
+                if (args.length > 1) {
+                    PlayerStorageType type;
+                    try {
+                        type = PlayerStorageType.fromName(args[1].toUpperCase());
+                    } catch (IllegalArgumentException e) {
+                        sender.sendMessage(LotterySixPlugin.getInstance().messageInvalidUsage);
+                        return true;
+                    }
+                    Future<Integer> future = LotterySixPlugin.getInstance().migratePlayers(type);
+                    Scheduler.runTaskAsynchronously(LotterySixPlugin.plugin, () -> {
+                        try {
+                            sender.sendMessage(ChatColor.GREEN + "[LotterySix] Migrated " + future.get() + " players to " + type.name());
+                        } catch (InterruptedException | ExecutionException e) {
+                            e.printStackTrace();
+                        }
+                    });
                 } else {
                     sender.sendMessage(LotterySixPlugin.getInstance().messageInvalidUsage);
                 }
@@ -491,6 +546,12 @@ public class Commands implements CommandExecutor, TabCompleter {
                 if (sender.hasPermission("lotterysix.invalidatebets")) {
                     tab.add("invalidatebets");
                 }
+                if (sender.hasPermission("lotterysix.migratearchives")) {
+                    tab.add("migratearchives");
+                }
+                if (sender.hasPermission("lotterysix.migrateplayers")) {
+                    tab.add("migrateplayers");
+                }
                 return tab;
             case 1:
                 if (sender.hasPermission("lotterysix.reload")) {
@@ -558,6 +619,16 @@ public class Commands implements CommandExecutor, TabCompleter {
                         tab.add("invalidatebets");
                     }
                 }
+                if (sender.hasPermission("lotterysix.migratearchives")) {
+                    if ("migratearchives".startsWith(args[0].toLowerCase())) {
+                        tab.add("migratearchives");
+                    }
+                }
+                if (sender.hasPermission("lotterysix.migrateplayers")) {
+                    if ("migrateplayers".startsWith(args[0].toLowerCase())) {
+                        tab.add("migrateplayers");
+                    }
+                }
                 return tab;
             case 2:
                 if (sender.hasPermission("lotterysix.balance")) {
@@ -632,6 +703,26 @@ public class Commands implements CommandExecutor, TabCompleter {
                         }
                     }
                 }
+                if (sender.hasPermission("lotterysix.migratearchives")) {
+                    if ("migratearchives".equalsIgnoreCase(args[0])) {
+                        for (ArchiveFormat format : ArchiveFormat.values()) {
+                            String name = format.name().toLowerCase();
+                            if (name.startsWith(args[1].toLowerCase())) {
+                                tab.add(name);
+                            }
+                        }
+                    }
+                }
+                if (sender.hasPermission("lotterysix.migrateplayers")) {
+                    if ("migrateplayers".equalsIgnoreCase(args[0])) {
+                        for (PlayerStorageType type : PlayerStorageType.values()) {
+                            String name = type.name().toLowerCase();
+                            if (name.startsWith(args[1].toLowerCase())) {
+                                tab.add(name);
+                            }
+                        }
+                    }
+                }
                 if (sender.hasPermission("lotterysix.invalidatebets")) {
                     if ("invalidatebets".equalsIgnoreCase(args[0])) {
                         if ("player".startsWith(args[1].toLowerCase())) {
@@ -336,6 +336,9 @@ public class LotterySixPlugin extends JavaPlugin implements Listener {
         if (activeBossBar != null) {
             activeBossBar.removePlayer(event.getPlayer());
         }
+        if (pluginMessageHandler != null && Bukkit.getOnlinePlayers().size() <= 1) {
+            pluginMessageHandler.resetWireCodec();
+        }
         Scheduler.runTaskAsynchronously(this, () -> instance.getLotteryPlayerManager().unloadLotteryPlayer(event.getPlayer().getUniqueId(), true));
     }
 }
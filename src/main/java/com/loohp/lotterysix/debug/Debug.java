@@ -22,12 +22,16 @@ package com.loohp.lotterysix.debug;
 
 import com.loohp.lotterysix.LotterySixPlugin;
 import com.loohp.lotterysix.game.lottery.CompletedLotterySixGame;
+import com.loohp.lotterysix.game.lottery.CompletedLotterySixGameCache;
 import com.loohp.lotterysix.game.lottery.PlayableLotterySixGame;
 import com.loohp.lotterysix.game.player.LotteryPlayer;
 import com.loohp.lotterysix.game.objects.PlayerBets;
 import com.loohp.lotterysix.game.objects.PlayerPreferenceKey;
 import com.loohp.lotterysix.game.objects.PlayerStatsKey;
 import com.loohp.lotterysix.game.objects.PlayerWinnings;
+import com.loohp.lotterysix.pluginmessaging.PastGameSyncSession;
+import com.loohp.lotterysix.pluginmessaging.PluginMessageFraming;
+import com.loohp.lotterysix.pluginmessaging.PluginMessageHandler;
 import com.loohp.lotterysix.utils.StringUtils;
 import net.md_5.bungee.api.ChatColor;
 import org.bukkit.OfflinePlayer;
@@ -48,6 +52,37 @@ public class Debug implements Listener {
         }
     }
 
+    public static void debugCompletedGameCache(CommandSender sender) {
+        CompletedLotterySixGameCache cache = LotterySixPlugin.getInstance().getCompletedGames().getCache();
+        sender.sendMessage(ChatColor.AQUA + "LotterySix Past Games Cache ----");
+        sender.sendMessage(ChatColor.GREEN + "Loaded Games: " + cache.size() + " (" + StringUtils.formatComma(cache.getWeight() / 1024) + " KB / " + StringUtils.formatComma(cache.getMaximumWeight() / 1024) + " KB)");
+        sender.sendMessage(ChatColor.GREEN + "Soft Referenced Games: " + (cache.isSoftReferences() ? cache.softSize() : "Disabled"));
+        sender.sendMessage(ChatColor.YELLOW + "Hits: " + cache.getHitCount() + " (Soft: " + cache.getSoftHitCount() + ")");
+        sender.sendMessage(ChatColor.YELLOW + "Misses: " + cache.getMissCount());
+        sender.sendMessage(ChatColor.YELLOW + "Hit Rate: " + String.format("%.2f", cache.getHitRate() * 100) + "%");
+        sender.sendMessage(ChatColor.YELLOW + "Loads: " + cache.getLoadCount() + " (Average " + String.format("%.2f", cache.getAverageLoadPenalty() / 1000000) + " ms)");
+        sender.sendMessage(ChatColor.YELLOW + "Evictions: " + cache.getEvictionCount());
+        sender.sendMessage(ChatColor.YELLOW + "Prefetched: " + cache.getPrefetchCount());
+    }
+
+    public static void debugPluginMessaging(CommandSender sender) {
+        PluginMessageHandler handler = LotterySixPlugin.getPluginMessageHandler();
+        if (handler == null) {
+            return;
+        }
+        PluginMessageFraming framing = handler.getFraming();
+        sender.sendMessage(ChatColor.AQUA + "LotterySix Plugin Messaging ----");
+        sender.sendMessage(ChatColor.GREEN + "Pending Messages: " + framing.getPendingMessages() + " (" + StringUtils.formatComma(framing.getBufferedBytes() / 1024) + " KB)");
+        sender.sendMessage(ChatColor.YELLOW + "Expired Partial Messages: " + framing.getEvictedMessages());
+        PastGameSyncSession pastGameSync = handler.getPastGameSync();
+        if (pastGameSync == null) {
+            sender.sendMessage(ChatColor.GREEN + "Past Games Resync: None");
+        } else {
+            sender.sendMessage(ChatColor.GREEN + "Past Games Resync: " + pastGameSync.getCompletedGames() + " / " + pastGameSync.getTotalGames() + " Games (" + String.format("%.2f", pastGameSync.getProgress() * 100) + "%, " + (pastGameSync.isComplete() ? "Completed in " : "Running for ") + String.format("%.2f", pastGameSync.getElapsedTime() / 1000.0) + " s)");
+        }
+        sender.sendMessage(ChatColor.YELLOW + "Compressed Messages: " + framing.getCompressedMessages() + " (" + StringUtils.formatComma(framing.getCompressionInputBytes() / 1024) + " KB -> " + StringUtils.formatComma(framing.getCompressionOutputBytes() / 1024) + " KB, Ratio " + String.format("%.2f", framing.getCompressionRatio() * 100) + "%)");
+    }
+
     public static void debugLotteryPlayer(CommandSender sender, OfflinePlayer player, int maxPastGames) {
         sender.sendMessage(ChatColor.AQUA + "LotterySix Player Info ----");
         sender.sendMessage(ChatColor.YELLOW + "Name: " + player.getName());
@@ -58,7 +58,17 @@ public class NumberStatisticsInteraction extends DiscordInteraction {
 
     @Override
     public void handle(GenericComponentInteractionCreateEvent event) {
-        CompletedLotterySixGame game = instance.getCompletedGames().getLatest();
+        if (instance.getCompletedGames().getLatestIfLoaded() == null && !instance.getCompletedGames().isEmpty()) {
+            event.getHook().editOriginalEmbeds(getGenericEmbed(instance.discordSRVSlashCommandsGlobalMessagesLoading, Color.CYAN)).setActionRows().retainFiles(Collections.emptyList()).queue();
+        }
+        instance.getCompletedGames().getLatestAsync().thenAccept(game -> handle(event, game)).exceptionally(error -> {
+            error.printStackTrace();
+            event.getHook().editOriginalEmbeds(getGenericEmbed(instance.discordSRVSlashCommandsGlobalMessagesUnknownError, Color.RED)).setActionRows().retainFiles(Collections.emptyList()).queue();
+            return null;
+        });
+    }
+
+    private void handle(GenericComponentInteractionCreateEvent event, CompletedLotterySixGame game) {
         EmbedBuilder builder = new EmbedBuilder()
                 .setColor(Color.CYAN)
                 .setTitle(ChatColor.stripColor(LotteryUtils.formatPlaceholders(null, instance.discordSRVSlashCommandsViewNumberStatisticsTitle, instance, game)))
@@ -86,7 +86,7 @@ public class PastDrawInteraction extends DiscordInteraction {
         String componentId = event.getComponent().getId();
         if (componentId.equals(SELECTION_MENU_NEWER_LABEL) || componentId.equals(SELECTION_MENU_OLDER_LABEL)) {
             GameNumber gameNumber = GameNumber.fromString(event.getMessage().getActionRows().get(1).getComponents().get(0).getId().substring(SELECTION_MENU_LABEL.length()));
-            int currentPosition = instance.getCompletedGames().indexOf(instance.getCompletedGames().get(gameNumber));
+            int currentPosition = instance.getCompletedGames().indexOf(gameNumber);
             if (componentId.equals(SELECTION_MENU_OLDER_LABEL)) {
                 currentPosition += 25;
             } else {
@@ -96,6 +96,7 @@ public class PastDrawInteraction extends DiscordInteraction {
             List<CompletedLotterySixGameIndex> list = new ArrayList<>();
             for (int i = startPosition; i < startPosition + 25 && i < instance.getCompletedGames().size(); i++) {
                 CompletedLotterySixGameIndex gameIndex = instance.getCompletedGames().getIndex(i);
+                instance.getCompletedGames().accessed(event.getUser().getId(), i);
                 list.add(gameIndex);
             }
 
@@ -122,18 +123,12 @@ public class PastDrawInteraction extends DiscordInteraction {
         } else if (componentId.startsWith(SELECTION_YEAR_MENU_LABEL)) {
             Year selectedYear = Year.of(Integer.parseInt(((SelectionMenuEvent) event).getValues().get(0).substring(SELECTION_YEAR_OPTION_LABEL.length())));
 
-            int currentPosition = 0;
-            for (int i = 0; i < instance.getCompletedGames().size(); i++) {
-                CompletedLotterySixGameIndex gameIndex = instance.getCompletedGames().getIndex(i);
-                if (gameIndex.getGameNumber().getYear().equals(selectedYear)) {
-                    currentPosition = i;
-                    break;
-                }
-            }
+            int currentPosition = Math.max(0, instance.getCompletedGames().indexOfFirstInYear(selectedYear));
             int startPosition = Math.max(0, currentPosition - currentPosition % 25);
             List<CompletedLotterySixGameIndex> list = new ArrayList<>();
             for (int i = startPosition; i < startPosition + 25 && i < instance.getCompletedGames().size(); i++) {
                 CompletedLotterySixGameIndex gameIndex = instance.getCompletedGames().getIndex(i);
+                instance.getCompletedGames().accessed(event.getUser().getId(), i);
                 list.add(gameIndex);
             }
 
@@ -166,25 +161,28 @@ public class PastDrawInteraction extends DiscordInteraction {
             } else {
                 gameNumber = "";
             }
-            CompletedLotterySixGame selectedGame;
+            CompletedLotterySixGameIndex selectedGameIndex;
             if (gameNumber.isEmpty()) {
-                selectedGame = null;
+                selectedGameIndex = null;
             } else {
                 try {
-                    selectedGame = instance.getCompletedGames().get(GameNumber.fromString(gameNumber));
+                    selectedGameIndex = instance.getCompletedGames().getIndex(GameNumber.fromString(gameNumber));
                 } catch (Exception e) {
                     event.getHook().editOriginalEmbeds(getGenericEmbed(instance.discordSRVSlashCommandsViewPastDrawNoResults, Color.RED)).setActionRows(ActionRow.of(getMainMenuButton())).retainFiles(Collections.emptyList()).queue();
                     return;
                 }
             }
 
-            if (instance.getCompletedGames().isEmpty() && selectedGame == null) {
+            if (instance.getCompletedGames().isEmpty() && selectedGameIndex == null) {
                 event.getHook().editOriginalEmbeds(getGenericEmbed(instance.discordSRVSlashCommandsViewPastDrawNoResults, Color.RED)).setActionRows(ActionRow.of(getMainMenuButton())).retainFiles(Collections.emptyList()).queue();
             } else {
+                if (instance.getCompletedGames().getIfLoaded(selectedGameIndex == null ? instance.getCompletedGames().getIndex(0) : selectedGameIndex) == null) {
+                    event.getHook().editOriginalEmbeds(getGenericEmbed(instance.discordSRVSlashCommandsGlobalMessagesLoading, Color.YELLOW)).setActionRows().retainFiles(Collections.emptyList()).queue();
+                }
                 Scheduler.runTaskAsynchronously(LotterySixPlugin.plugin, () -> {
                     SyncUtils.blockUntilTrue(() -> !instance.isGameLocked());
 
-                    CompletedLotterySixGame game = selectedGame == null ? instance.getCompletedGames().get(0) : selectedGame;
+                    CompletedLotterySixGame game = (selectedGameIndex == null ? instance.getCompletedGames().getAsync(0) : instance.getCompletedGames().getAsync(selectedGameIndex)).join();
                     StringBuilder str = new StringBuilder(ChatColor.stripColor(LotteryUtils.formatPlaceholders(null, instance.discordSRVDrawResultAnnouncementDescription, instance, game)));
                     boolean exceedLimit = false;
 
@@ -297,6 +295,7 @@ public class PastDrawInteraction extends DiscordInteraction {
                     List<CompletedLotterySixGameIndex> list = new ArrayList<>();
                     for (int i = startPosition; i < startPosition + 25 && i < instance.getCompletedGames().size(); i++) {
                         CompletedLotterySixGameIndex gameIndex = instance.getCompletedGames().getIndex(i);
+                        instance.getCompletedGames().accessed(event.getUser().getId(), i);
                         list.add(gameIndex);
                     }
 
@@ -27,11 +27,15 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.loohp.lotterysix.config.Config;
 import com.loohp.lotterysix.game.lottery.CompletedLotterySixGame;
+import com.loohp.lotterysix.game.lottery.CompletedLotterySixGameArchiveStore;
+import com.loohp.lotterysix.game.lottery.CompletedLotterySixGameCodec;
 import com.loohp.lotterysix.game.lottery.CompletedLotterySixGameIndex;
+import com.loohp.lotterysix.game.lottery.CurrentGameJournal;
 import com.loohp.lotterysix.game.lottery.GameNumber;
 import com.loohp.lotterysix.game.lottery.ILotterySixGame;
 import com.loohp.lotterysix.game.lottery.LazyCompletedLotterySixGameList;
 import com.loohp.lotterysix.game.lottery.PlayableLotterySixGame;
+import com.loohp.lotterysix.game.objects.ArchiveFormat;
 import com.loohp.lotterysix.game.objects.BetResultConsumer;
 import com.loohp.lotterysix.game.objects.BossBarInfo;
 import com.loohp.lotterysix.game.objects.CarryOverMode;
@@ -39,6 +43,7 @@ import com.loohp.lotterysix.game.objects.LotterySixAction;
 import com.loohp.lotterysix.game.objects.MessageConsumer;
 import com.loohp.lotterysix.game.objects.PlayerBets;
 import com.loohp.lotterysix.game.objects.PlayerPreferenceKey;
+import com.loohp.lotterysix.game.objects.PlayerStorageType;
 import com.loohp.lotterysix.game.objects.PrizeCalculationMode;
 import com.loohp.lotterysix.game.objects.PrizeTier;
 import com.loohp.lotterysix.game.objects.WinningNumbers;
@@ -96,6 +101,14 @@ public class LotterySix implements AutoCloseable {
     public static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
 
     public static CompletedLotterySixGame loadFromDirectory(File folder, CompletedLotterySixGameIndex index) {
+        File archiveFile = new File(folder, index.getDataFileName(ArchiveFormat.BINARY.getFileExtension()));
+        if (archiveFile.exists()) {
+            try {
+                return CompletedLotterySixGameCodec.decode(Files.readAllBytes(archiveFile.toPath()));
+            } catch (IOException e) {
+                throw new IllegalStateException("Do not remove LotterySix game data from the file system while the server is running, please restart the server now", e);
+            }
+        }
         File file = new File(folder, index.getDataFileName("json"));
         if (file.exists()) {
             try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8))) {
@@ -104,7 +117,7 @@ public class LotterySix implements AutoCloseable {
                 throw new IllegalStateException("Do not remove LotterySix game data from the file system while the server is running, please restart the server now", e);
             }
         }
-        File compressedFile = new File(folder, index.getDataFileName("json.gz"));
+        File compressedFile = new File(folder, index.getDataFileName(ArchiveFormat.JSON.getFileExtension()));
         if (compressedFile.exists()) {
             try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(compressedFile.toPath())), StandardCharsets.UTF_8))) {
                 return GSON.fromJson(reader, CompletedLotterySixGame.class);
@@ -115,6 +128,40 @@ public class LotterySix implements AutoCloseable {
         throw new IllegalStateException("Do not remove LotterySix game data from the file system while the server is running, please restart the server now");
     }
 
+    public static boolean hasDataFile(File folder, CompletedLotterySixGameIndex index) {
+        if (new File(folder, index.getDataFileName("json")).exists()) {
+            return true;
+        }
+        for (ArchiveFormat format : ArchiveFormat.values()) {
+            if (format.isPerGame() && new File(folder, index.getDataFileName(format.getFileExtension())).exists()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static void saveToDirectory(File folder, CompletedLotterySixGame game, ArchiveFormat format) throws IOException {
+        if (!format.isPerGame()) {
+            throw new IllegalArgumentException(format.name() + " is not a per game archive format");
+        }
+        File file = new File(folder, game.getDataFileName(format.getFileExtension()));
+        File temporaryFile = new File(folder, file.getName() + ".tmp");
+        if (format.equals(ArchiveFormat.BINARY)) {
+            Files.write(temporaryFile.toPath(), CompletedLotterySixGameCodec.encode(game));
+        } else {
+            try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(temporaryFile.toPath())), StandardCharsets.UTF_8))) {
+                pw.println(GSON.toJson(game));
+                pw.flush();
+            }
+        }
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        for (ArchiveFormat other : ArchiveFormat.values()) {
+            if (other.isPerGame() && !other.equals(format)) {
+                Files.deleteIfExists(new File(folder, game.getDataFileName(other.getFileExtension())).toPath());
+            }
+        }
+    }
+
     private final TimerTask lotteryTask;
     private volatile TimerTask announcementTask;
     private final File dataFolder;
@@ -138,6 +185,7 @@ public class LotterySix implements AutoCloseable {
     public String messageNotifyBalanceChange;
     public String messagePendingClaimed;
     public String messageGameNumberNotFound;
+    public String messageGameLoadFailed;
     public String messageBettingAccountSuspended;
     public String messageBetLimitMaximumChancePerSelection;
     public String messageWithdrawSuccess;
@@ -167,6 +215,12 @@ public class LotterySix implements AutoCloseable {
     public Map<BetNumbersType, String> betNumbersTypeNames;
 
     public boolean updaterEnabled;
+    public int settlementParallelism;
+    public ArchiveFormat archiveFormat;
+    public long completedGameCacheMaxMemory;
+    public boolean completedGameCacheSoftReferences;
+    public PlayerStorageType playerStorageType;
+    public int pluginMessageCompressionThreshold;
 
     public boolean backendBungeecordMode;
 
@@ -314,6 +368,7 @@ public class LotterySix implements AutoCloseable {
     public String discordSRVSlashCommandsGlobalMessagesNoOneOnline;
     public String discordSRVSlashCommandsGlobalMessagesTimeOut;
     public String discordSRVSlashCommandsGlobalMessagesUnknownError;
+    public String discordSRVSlashCommandsGlobalMessagesLoading;
     public String discordSRVSlashCommandsGlobalComponentsBack;
     public String discordSRVSlashCommandsBetAccountTitle;
     public String[] discordSRVSlashCommandsBetAccountSubTitle;
@@ -373,6 +428,8 @@ public class LotterySix implements AutoCloseable {
     private volatile boolean gameLocked;
     private volatile WinningNumbers nextWinningNumbers;
     private final LazyCompletedLotterySixGameList completedGames;
+    private final CurrentGameJournal currentGameJournal;
+    private final CompletedLotterySixGameArchiveStore archiveStore;
     private final AtomicInteger requestSave;
 
     private final BiPredicate<UUID, Long> takeMoneyConsumer;
@@ -414,7 +471,9 @@ public class LotterySix implements AutoCloseable {
 
         File lotteryDataFolder = new File(getDataFolder(), "data");
         lotteryDataFolder.mkdirs();
-        this.completedGames = new LazyCompletedLotterySixGameList(gameIndex -> loadFromDirectory(lotteryDataFolder, gameIndex));
+        this.completedGames = new LazyCompletedLotterySixGameList(gameIndex -> loadCompletedGame(lotteryDataFolder, gameIndex));
+        this.currentGameJournal = new CurrentGameJournal(new File(lotteryDataFolder, "current.journal"));
+        this.archiveStore = new CompletedLotterySixGameArchiveStore(new File(lotteryDataFolder, "archives"));
 
         if (!getDataFolder().exists()) {
             getDataFolder().mkdirs();
@@ -527,7 +586,10 @@ public class LotterySix implements AutoCloseable {
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
-        saveDataNow(false);
+        completedGames.shutdown();
+        saveDataNow(false, true);
+        lotteryPlayerManager.close();
+        archiveStore.close();
     }
 
     public File getDataFolder() {
@@ -590,7 +652,7 @@ public class LotterySix implements AutoCloseable {
         nextWinningNumbers = null;
         CompletedLotterySixGame lastGame = completedGames.getLatest();
         List<PlayerBets> placedBets = new ArrayList<>();
-        for (UUID uuid : lotteryPlayerManager.getAllLotteryPlayerUUIDs()) {
+        for (UUID uuid : lotteryPlayerManager.getMultipleDrawPlayerUUIDs()) {
             placedBets.addAll(lotteryPlayerManager.getLotteryPlayer(uuid).getMultipleDrawPlayerBets());
         }
         currentGame = PlayableLotterySixGame.createNewGame(this, Math.max(dateTime, System.currentTimeMillis()), null, lastGame == null ? Collections.emptyMap() : lastGame.getNumberStatistics(), lastGame == null ? 0 : lastGame.getRemainingFunds(), lowestTopPlacesPrize, placedBets);
@@ -844,6 +906,7 @@ public class LotterySix implements AutoCloseable {
         messageNotifyBalanceChange = ChatColorUtils.translateAlternateColorCodes('&', config.getConfiguration().getString("Messages.NotifyBalanceChange"));
         messagePendingClaimed = ChatColorUtils.translateAlternateColorCodes('&', config.getConfiguration().getString("Messages.PendingClaimed"));
         messageGameNumberNotFound = ChatColorUtils.translateAlternateColorCodes('&', config.getConfiguration().getString("Messages.GameNumberNotFound"));
+        messageGameLoadFailed = ChatColorUtils.translateAlternateColorCodes('&', config.getConfiguration().getString("Messages.GameLoadFailed"));
         messageBettingAccountSuspended = ChatColorUtils.translateAlternateColorCodes('&', config.getConfiguration().getString("Messages.BettingAccountSuspended"));
         messageBetLimitMaximumChancePerSelection = ChatColorUtils.translateAlternateColorCodes('&', config.getConfiguration().getString("Messages.BetLimitMaximumChancePerSelection"));
         messageWithdrawSuccess = ChatColorUtils.translateAlternateColorCodes('&', config.getConfiguration().getString("Messages.WithdrawSuccess"));
@@ -891,6 +954,17 @@ public class LotterySix implements AutoCloseable {
         }
 
         updaterEnabled = config.getConfiguration().getBoolean("Options.Updater");
+        settlementParallelism = config.getConfiguration().getInt("Options.SettlementParallelism");
+        archiveFormat = ArchiveFormat.fromName(config.getConfiguration().getString("Options.ArchiveFormat").toUpperCase());
+        completedGameCacheMaxMemory = config.getConfiguration().getLong("Options.CompletedGameCache.MaxMemoryMB") * 1024 * 1024;
+        completedGameCacheSoftReferences = config.getConfiguration().getBoolean("Options.CompletedGameCache.SoftReferences");
+        completedGames.getCache().setMaximumWeight(completedGameCacheMaxMemory);
+        completedGames.getCache().setSoftReferences(completedGameCacheSoftReferences);
+        playerStorageType = PlayerStorageType.fromName(config.getConfiguration().getString("Options.PlayerStorage").toUpperCase());
+        if (lotteryPlayerManager != null && !playerStorageType.equals(lotteryPlayerManager.getStorageType())) {
+            consoleMessageConsumer.accept("Options.PlayerStorage only takes effect after running \"/lotterysix migrateplayers " + playerStorageType.name().toLowerCase() + "\", player data is still stored as " + lotteryPlayerManager.getStorageType().name());
+        }
+        pluginMessageCompressionThreshold = config.getConfiguration().getInt("Options.PluginMessageCompressionThreshold");
 
         betsAcceptDuration = config.getConfiguration().getLong("LotterySix.BetsAcceptDuration") * 1000;
         if (runInterval == null) {
@@ -1040,6 +1114,7 @@ public class LotterySix implements AutoCloseable {
         discordSRVSlashCommandsGlobalMessagesNoOneOnline = config.getConfiguration().getString("DiscordSRV.SlashCommands.Global.Messages.NoOneOnline");
         discordSRVSlashCommandsGlobalMessagesTimeOut = config.getConfiguration().getString("DiscordSRV.SlashCommands.Global.Messages.TimeOut");
         discordSRVSlashCommandsGlobalMessagesUnknownError = config.getConfiguration().getString("DiscordSRV.SlashCommands.Global.Messages.UnknownError");
+        discordSRVSlashCommandsGlobalMessagesLoading = config.getConfiguration().getString("DiscordSRV.SlashCommands.Global.Messages.Loading");
         discordSRVSlashCommandsGlobalComponentsBack = config.getConfiguration().getString("DiscordSRV.SlashCommands.Global.Components.Back");
         discordSRVSlashCommandsBetAccountTitle = config.getConfiguration().getString("DiscordSRV.SlashCommands.BetAccount.Title");
         discordSRVSlashCommandsBetAccountSubTitle = config.getConfiguration().getStringList("DiscordSRV.SlashCommands.BetAccount.SubTitle").toArray(new String[0]);
@@ -1130,11 +1205,20 @@ public class LotterySix implements AutoCloseable {
                     throw new IOException("Unable to read data of current LotterySix game in " + currentGameFile.getAbsolutePath());
                 } else {
                     currentGame.setInstance(this);
+                    int replayed = currentGameJournal.replay(currentGame);
+                    if (replayed > 0) {
+                        consoleMessageConsumer.accept("Replayed " + replayed + " journaled bet changes for the current LotterySix game");
+                    }
                 }
             } catch (IOException e) {
                 e.printStackTrace();
             }
         }
+        try {
+            archiveStore.open();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
         File completedGameFile = new File(lotteryDataFolder, "completed.json");
         if (completedGameFile.exists()) {
             boolean needSaving = false;
@@ -1143,8 +1227,10 @@ public class LotterySix implements AutoCloseable {
                 for (JsonElement element : array) {
                     CompletedLotterySixGameIndex gameIndex = GSON.fromJson(element.getAsJsonObject(), CompletedLotterySixGameIndex.class);
                     File detailFile = new File(lotteryDataFolder, gameIndex.getDataFileName("json"));
-                    File detailCompressedFile = new File(lotteryDataFolder, gameIndex.getDataFileName("json.gz"));
-                    if (!detailFile.exists() && !detailCompressedFile.exists()) {
+                    File detailCompressedFile = new File(lotteryDataFolder, gameIndex.getDataFileName(ArchiveFormat.JSON.getFileExtension()));
+                    File detailArchiveFile = new File(lotteryDataFolder, gameIndex.getDataFileName(ArchiveFormat.BINARY.getFileExtension()));
+                    boolean archived = archiveStore.contains(gameIndex.getGameId());
+                    if (!detailFile.exists() && !detailCompressedFile.exists() && !detailArchiveFile.exists() && !archived) {
                         File oldLocation = new File(lotteryDataFolder, gameIndex.getDatetime() + ".json");
                         if (oldLocation.exists()) {
                             Files.move(oldLocation.toPath(), detailFile.toPath());
@@ -1161,15 +1247,18 @@ public class LotterySix implements AutoCloseable {
                             e.printStackTrace();
                         }
                     }
-                    if (detailCompressedFile.exists()) {
+                    if (detailCompressedFile.exists() || detailArchiveFile.exists() || archived) {
                         if (detailFile.exists()) {
                             detailFile.delete();
                         }
-                        if (gameIndex.isDetailsComplete()) {
-                            completedGames.addUnloaded(gameIndex);
-                        } else {
+                        if (!gameIndex.isDetailsComplete()) {
+                            needSaving = true;
+                            completedGames.add(loadCompletedGame(lotteryDataFolder, gameIndex));
+                        } else if (!gameIndex.hasSummary()) {
                             needSaving = true;
-                            completedGames.add(loadFromDirectory(lotteryDataFolder, gameIndex));
+                            completedGames.addUnloaded(loadCompletedGame(lotteryDataFolder, gameIndex).toGameIndex());
+                        } else {
+                            completedGames.addUnloaded(gameIndex);
                         }
                     }
                 }
@@ -1211,39 +1300,124 @@ public class LotterySix implements AutoCloseable {
         }));
     }
 
+    private CompletedLotterySixGame loadCompletedGame(File lotteryDataFolder, CompletedLotterySixGameIndex gameIndex) {
+        if (archiveFormat.equals(ArchiveFormat.MAPPED) || !hasDataFile(lotteryDataFolder, gameIndex)) {
+            try {
+                CompletedLotterySixGame game = archiveStore.load(gameIndex.getGameId());
+                if (game != null) {
+                    return game;
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Do not remove LotterySix game data from the file system while the server is running, please restart the server now", e);
+            }
+        }
+        return loadFromDirectory(lotteryDataFolder, gameIndex);
+    }
+
+    private void saveCompletedGame(File lotteryDataFolder, CompletedLotterySixGame game, ArchiveFormat format) throws IOException {
+        if (format.isPerGame()) {
+            saveToDirectory(lotteryDataFolder, game, format);
+            return;
+        }
+        archiveStore.write(game);
+        for (ArchiveFormat other : ArchiveFormat.values()) {
+            if (other.isPerGame()) {
+                Files.deleteIfExists(new File(lotteryDataFolder, game.getDataFileName(other.getFileExtension())).toPath());
+            }
+        }
+    }
+
+    public Future<Integer> migratePlayers(PlayerStorageType type) {
+        return saveDataService.submit(() -> {
+            int migrated = lotteryPlayerManager.migrate(type);
+            Config config = Config.getConfig(configId);
+            if (!type.name().equalsIgnoreCase(config.getConfiguration().getString("Options.PlayerStorage"))) {
+                config.getConfiguration().set("Options.PlayerStorage", type.name());
+                config.save();
+            }
+            playerStorageType = type;
+            return migrated;
+        });
+    }
+
+    public Future<Integer> migrateArchives(ArchiveFormat format) {
+        return saveDataService.submit(() -> {
+            File lotteryDataFolder = new File(getDataFolder(), "data");
+            int migrated = 0;
+            boolean failed = false;
+            for (CompletedLotterySixGameIndex gameIndex : completedGames.indexIterable()) {
+                boolean needsMigration = false;
+                for (ArchiveFormat other : ArchiveFormat.values()) {
+                    if (!other.equals(format)) {
+                        if (other.isPerGame() ? new File(lotteryDataFolder, gameIndex.getDataFileName(other.getFileExtension())).exists() : archiveStore.contains(gameIndex.getGameId())) {
+                            needsMigration = true;
+                        }
+                    }
+                }
+                if (!needsMigration) {
+                    continue;
+                }
+                try {
+                    saveCompletedGame(lotteryDataFolder, loadCompletedGame(lotteryDataFolder, gameIndex), format);
+                    migrated++;
+                } catch (Throwable e) {
+                    failed = true;
+                    e.printStackTrace();
+                }
+            }
+            if (format.isPerGame() && !failed) {
+                archiveStore.clear();
+            }
+            return migrated;
+        });
+    }
+
     private void saveDataNow(boolean onlyCurrent) {
+        saveDataNow(onlyCurrent, false);
+    }
+
+    private void saveDataNow(boolean onlyCurrent, boolean compact) {
         File lotteryDataFolder = new File(getDataFolder(), "data");
         lotteryDataFolder.mkdirs();
         File currentGameFile = new File(lotteryDataFolder, "current.json");
+        PlayableLotterySixGame currentGame = this.currentGame;
         if (currentGame != null) {
-            if (currentGame.getDirtyFlag().get()) {
+            List<CurrentGameJournal.Entry> entries = currentGame.drainJournal();
+            if (compact || currentGame.getDirtyFlag().get() || !currentGameFile.exists() || !currentGameJournal.isFor(currentGame) || currentGameJournal.needsCompaction(entries.size())) {
+                File temporaryCurrentGameFile = new File(lotteryDataFolder, "current.json.tmp");
                 File backupCurrentGameFile = new File(lotteryDataFolder, "current.json.bak");
-                if (currentGameFile.exists()) {
-                    boolean shouldBackup = false;
-                    try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(currentGameFile.toPath()), StandardCharsets.UTF_8))) {
-                        GSON.fromJson(reader, PlayableLotterySixGame.class);
-                        shouldBackup = true;
-                    } catch (IOException e) {
-                        e.printStackTrace();
-                    }
-                    if (shouldBackup) {
-                        try {
-                            Files.copy(currentGameFile.toPath(), backupCurrentGameFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                        } catch (IOException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                }
-                try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(Files.newOutputStream(currentGameFile.toPath()), StandardCharsets.UTF_8))) {
+                try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(Files.newOutputStream(temporaryCurrentGameFile.toPath()), StandardCharsets.UTF_8))) {
                     currentGame.getDirtyFlag().set(false);
                     pw.println(currentGame.toJson(GSON, true));
                     pw.flush();
                 } catch (IOException e) {
+                    currentGame.getDirtyFlag().set(true);
+                    e.printStackTrace();
+                    return;
+                }
+                try {
+                    if (currentGameFile.exists()) {
+                        Files.copy(currentGameFile.toPath(), backupCurrentGameFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    Files.move(temporaryCurrentGameFile.toPath(), currentGameFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                    currentGameJournal.reset(currentGame);
+                } catch (IOException e) {
+                    currentGame.getDirtyFlag().set(true);
+                    e.printStackTrace();
+                }
+            } else if (!entries.isEmpty()) {
+                try {
+                    currentGameJournal.append(entries);
+                } catch (IOException e) {
+                    currentGame.getDirtyFlag().set(true);
                     e.printStackTrace();
                 }
             }
-        } else if (currentGameFile.exists()) {
-            currentGameFile.delete();
+        } else {
+            if (currentGameFile.exists()) {
+                currentGameFile.delete();
+            }
+            currentGameJournal.delete();
         }
         if (!onlyCurrent) {
             File completedGameFile = new File(lotteryDataFolder, "completed.json");
@@ -1260,11 +1434,9 @@ public class LotterySix implements AutoCloseable {
             Iterator<CompletedLotterySixGame> itr = completedGames.dirtyGamesIterator();
             while (itr.hasNext()) {
                 CompletedLotterySixGame game = itr.next();
-                File file = new File(lotteryDataFolder, game.getDataFileName("json.gz"));
-                try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file.toPath())), StandardCharsets.UTF_8))) {
-                    pw.println(GSON.toJson(game));
+                try {
+                    saveCompletedGame(lotteryDataFolder, game, archiveFormat);
                     itr.remove();
-                    pw.flush();
                 } catch (IOException e) {
                     e.printStackTrace();
                 }
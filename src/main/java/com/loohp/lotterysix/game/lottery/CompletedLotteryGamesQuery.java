@@ -46,10 +46,34 @@ public class CompletedLotteryGamesQuery {
         this.firstTierPrizeAtLeast = firstTierPrizeAtLeast;
     }
 
+    public boolean isOnlyWithSpecialName() {
+        return onlyWithSpecialName;
+    }
+
+    public Year getYear() {
+        return year;
+    }
+
+    public Month getMonth() {
+        return month;
+    }
+
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public long getFirstTierPrizeAtLeast() {
+        return firstTierPrizeAtLeast;
+    }
+
     public Predicate<CompletedLotterySixGameIndex> getQueryPredicate(LazyCompletedLotterySixGameList games, TimeZone timezone) {
+        return getTimeQueryPredicate(timezone).and(getAttributeQueryPredicate(games));
+    }
+
+    public Predicate<CompletedLotterySixGameIndex> getTimeQueryPredicate(TimeZone timezone) {
         return index -> {
-            if (onlyWithSpecialName && !index.hasSpecialName()) {
-                return false;
+            if (year == null && month == null && dayOfWeek == null) {
+                return true;
             }
             ZonedDateTime time = ZonedDateTime.ofInstant(Instant.ofEpochMilli(index.getDatetime()), timezone.toZoneId());
             if (year != null && !Year.of(time.getYear()).equals(year)) {
@@ -61,7 +85,16 @@ public class CompletedLotteryGamesQuery {
             if (dayOfWeek != null && !time.getDayOfWeek().equals(dayOfWeek)) {
                 return false;
             }
-            if (firstTierPrizeAtLeast > 0 && games.get(index).getPrizeForTier(PrizeTier.FIRST) >= firstTierPrizeAtLeast) {
+            return true;
+        };
+    }
+
+    public Predicate<CompletedLotterySixGameIndex> getAttributeQueryPredicate(LazyCompletedLotterySixGameList games) {
+        return index -> {
+            if (onlyWithSpecialName && !index.hasSpecialName()) {
+                return false;
+            }
+            if (firstTierPrizeAtLeast > 0 && (index.hasSummary() ? index.getPrizeForTier(PrizeTier.FIRST) : games.get(index).getPrizeForTier(PrizeTier.FIRST)) >= firstTierPrizeAtLeast) {
                 return false;
             }
             return true;
@@ -24,16 +24,15 @@ import com.loohp.lotterysix.game.LotterySix;
 import com.loohp.lotterysix.game.objects.BetUnitType;
 import com.loohp.lotterysix.game.objects.NumberStatistics;
 import com.loohp.lotterysix.game.objects.PlayerBets;
-import com.loohp.lotterysix.game.objects.PlayerStatsKey;
 import com.loohp.lotterysix.game.objects.PlayerWinnings;
 import com.loohp.lotterysix.game.objects.PrizeTier;
 import com.loohp.lotterysix.game.objects.WinningNumbers;
-import com.loohp.lotterysix.game.player.LotteryPlayer;
-import com.loohp.lotterysix.game.player.LotteryPlayerManager;
+import com.loohp.lotterysix.game.objects.betnumbers.BetNumbers;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +48,8 @@ public class CompletedLotterySixGame implements ILotterySixGame {
     private transient Map<PrizeTier, Double> winnerCountForTierCache;
     private transient Map<UUID, Map<PrizeTier, List<PlayerWinnings>>> winnersByBetCache;
     private transient List<PlayerBets> orderedBetCache;
+    private transient CompletedLotterySixGameIndex gameIndexCache;
+    private transient volatile long retainedSizeCache;
 
     private final UUID gameId;
     private final long datetime;
@@ -128,8 +129,15 @@ public class CompletedLotterySixGame implements ILotterySixGame {
         return (gameNumber == null ? GameNumber.UNKNOWN : gameNumber).toString().replace("/", "_") + "_" + datetime + "." + extension;
     }
 
-    public CompletedLotterySixGameIndex toGameIndex() {
-        return new CompletedLotterySixGameIndex(gameId, datetime, gameNumber, drawResult, specialName);
+    public synchronized CompletedLotterySixGameIndex toGameIndex() {
+        if (gameIndexCache != null) {
+            return gameIndexCache;
+        }
+        Map<PrizeTier, Double> winnerCountForTier = new EnumMap<>(PrizeTier.class);
+        for (PrizeTier prizeTier : PrizeTier.values()) {
+            winnerCountForTier.put(prizeTier, getWinnerCountForTier(prizeTier));
+        }
+        return gameIndexCache = new CompletedLotterySixGameIndex(gameId, datetime, gameNumber, drawResult, specialName, prizeForTier, winnerCountForTier, getTotalBets(), totalPrizes);
     }
 
     @Override
@@ -162,6 +170,10 @@ public class CompletedLotterySixGame implements ILotterySixGame {
         return numberStatistics == null ? Collections.emptyMap() : Collections.unmodifiableMap(numberStatistics);
     }
 
+    public long getPricePerBet() {
+        return pricePerBet;
+    }
+
     public long getPricePerBet(BetUnitType type) {
         return pricePerBet / type.getDivisor();
     }
@@ -221,11 +233,33 @@ public class CompletedLotterySixGame implements ILotterySixGame {
         return prizeForTier.getOrDefault(prizeTier, 0L);
     }
 
+    public Map<PrizeTier, Long> getPrizeForTiers() {
+        return Collections.unmodifiableMap(prizeForTier);
+    }
+
     public double getWinnerCountForTier(PrizeTier prizeTier) {
         cacheWinnerCountForTier();
         return winnerCountForTierCache.get(prizeTier);
     }
 
+    public long estimateRetainedSize() {
+        long size = retainedSizeCache;
+        if (size == 0) {
+            retainedSizeCache = size = computeRetainedSize();
+        }
+        return size;
+    }
+
+    private long computeRetainedSize() {
+        long size = 4096 + numberStatistics.size() * 64L + winners.size() * 160L;
+        for (PlayerBets bet : bets.values()) {
+            BetNumbers chosenNumbers = bet.getChosenNumbers();
+            size += 256 + bet.getName().length() * 2L + chosenNumbers.getBankersNumbers().size() * 48L;
+            size += chosenNumbers.getSetsSize() * (64 + chosenNumbers.getNumbers().size() * 48L);
+        }
+        return size;
+    }
+
     public long getRemainingFunds() {
         return remainingFunds;
     }
@@ -236,52 +270,7 @@ public class CompletedLotterySixGame implements ILotterySixGame {
 
     public void givePrizesAndUpdateStats(LotterySix instance, Runnable onCompletion) {
         new Thread(() -> {
-            LotteryPlayerManager lotteryPlayerManager = instance.getLotteryPlayerManager();
-            Map<UUID, Long> transactions = new HashMap<>();
-            Map<UUID, PrizeTier> prizeTiers = new HashMap<>();
-            Map<UUID, List<PlayerBets>> multipleDrawBets = new HashMap<>();
-            for (PlayerWinnings winning : winners) {
-                transactions.merge(winning.getPlayer(), winning.getWinnings(), (a, b) -> a + b);
-                prizeTiers.merge(winning.getPlayer(), winning.getTier(), (a, b) -> a.ordinal() < b.ordinal() ? a : b);
-            }
-            for (PlayerBets bet : bets.values()) {
-                List<PlayerBets> playerBets = multipleDrawBets.computeIfAbsent(bet.getPlayer(), k -> new ArrayList<>());
-                if (bet.isMultipleDraw()) {
-                    PlayerBets decremented = bet.decrementDrawsRemaining();
-                    if (decremented.getDrawsRemaining() > 0) {
-                        playerBets.add(decremented);
-                    }
-                }
-            }
-            Map<LotteryPlayer, Boolean> affected = new HashMap<>();
-            for (Map.Entry<UUID, List<PlayerBets>> entry : multipleDrawBets.entrySet()) {
-                LotteryPlayer lotteryPlayer = instance.getLotteryPlayerManager().getLotteryPlayer(entry.getKey());
-                lotteryPlayer.setMultipleDrawPlayerBets(entry.getValue(), false);
-                affected.put(lotteryPlayer, false);
-            }
-            for (Map.Entry<UUID, Long> entry : transactions.entrySet()) {
-                LotteryPlayer lotteryPlayer = instance.getLotteryPlayerManager().getLotteryPlayer(entry.getKey());
-                PrizeTier prizeTier = prizeTiers.get(entry.getKey());
-                long total = entry.getValue();
-                lotteryPlayer.updateStats(PlayerStatsKey.ACCOUNT_BALANCE, long.class, i -> i + total, false);
-                lotteryPlayer.updateStats(PlayerStatsKey.NOTIFY_BALANCE_CHANGE, long.class, i -> i + total, false);
-                lotteryPlayer.updateStats(PlayerStatsKey.TOTAL_WINNINGS, long.class, i -> i + total, false);
-                lotteryPlayer.updateStats(PlayerStatsKey.HIGHEST_WON_TIER, PrizeTier.class, t -> t == null || prizeTier.ordinal() < t.ordinal(), prizeTier, false);
-                affected.put(lotteryPlayer, true);
-            }
-            if (instance.lotteriesFundAccount != null) {
-                LotteryPlayer lotteryPlayer = lotteryPlayerManager.getLotteryPlayer(instance.lotteriesFundAccount);
-                lotteryPlayer.updateStats(PlayerStatsKey.ACCOUNT_BALANCE, long.class, i -> i + lotteriesFunds, false);
-                lotteryPlayer.updateStats(PlayerStatsKey.NOTIFY_BALANCE_CHANGE, long.class, i -> i + lotteriesFunds, false);
-                affected.put(lotteryPlayer, true);
-            }
-            for (Map.Entry<LotteryPlayer, Boolean> entry : affected.entrySet()) {
-                LotteryPlayer lotteryPlayer = entry.getKey();
-                lotteryPlayer.save();
-                if (entry.getValue()) {
-                    instance.notifyBalanceChangeConsumer(lotteryPlayer.getPlayer());
-                }
-            }
+            new PrizeSettlement(instance, gameNumber, winners, bets.values(), lotteriesFunds).run();
             onCompletion.run();
         }, "LotterySix Win Prize Distribution Thread - " + gameNumber).start();
     }
@@ -0,0 +1,366 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.lottery;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CompletedLotterySixGameArchiveStore implements AutoCloseable {
+
+    public static final String FILE_EXTENSION = "lsa";
+    public static final String UNKNOWN_YEAR = "unknown";
+
+    private static final int RECORD_MAGIC = 0x4C534152;
+    private static final int RECORD_HEADER_SIZE = 4 + 16 + 4;
+    private static final long COMPACTION_MIN_GARBAGE = 1024 * 1024;
+
+    private final File folder;
+    private final Map<String, YearArchive> archives;
+    private final Map<UUID, Segment> segments;
+
+    public CompletedLotterySixGameArchiveStore(File folder) {
+        this.folder = folder;
+        this.archives = new ConcurrentHashMap<>();
+        this.segments = new ConcurrentHashMap<>();
+    }
+
+    public static String getArchiveKey(ILotterySixGame game) {
+        GameNumber gameNumber = game.getGameNumber();
+        return gameNumber == null ? UNKNOWN_YEAR : String.valueOf(gameNumber.getYear().getValue());
+    }
+
+    public synchronized void open() throws IOException {
+        close();
+        File[] files = folder.listFiles((dir, name) -> name.endsWith("." + FILE_EXTENSION));
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String key = file.getName().substring(0, file.getName().length() - FILE_EXTENSION.length() - 1);
+            YearArchive archive = new YearArchive(file);
+            archives.put(key, archive);
+            archive.scan(segments);
+            if (archive.needsCompaction(segments)) {
+                try {
+                    archive.compact(segments);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    public boolean contains(UUID gameId) {
+        return segments.containsKey(gameId);
+    }
+
+    public int size() {
+        return segments.size();
+    }
+
+    public CompletedLotterySixGame load(UUID gameId) throws IOException {
+        Segment segment = segments.get(gameId);
+        if (segment == null || !segment.archive.acquire()) {
+            return null;
+        }
+        try {
+            return CompletedLotterySixGameCodec.decode(segment.archive.slice(segment.offset, segment.length));
+        } finally {
+            segment.archive.release();
+        }
+    }
+
+    public CompletedLotterySixGameIndex loadIndex(UUID gameId) throws IOException {
+        Segment segment = segments.get(gameId);
+        if (segment == null || !segment.archive.acquire()) {
+            return null;
+        }
+        try {
+            return CompletedLotterySixGameCodec.decodeIndex(segment.archive.slice(segment.offset, segment.length));
+        } finally {
+            segment.archive.release();
+        }
+    }
+
+    public synchronized void write(CompletedLotterySixGame game) throws IOException {
+        String key = getArchiveKey(game);
+        YearArchive archive = archives.get(key);
+        if (archive == null) {
+            folder.mkdirs();
+            archive = new YearArchive(new File(folder, key + "." + FILE_EXTENSION));
+            archives.put(key, archive);
+        }
+        UUID gameId = game.getGameId();
+        byte[] bytes = CompletedLotterySixGameCodec.encode(game);
+        Segment existing = segments.get(gameId);
+        if (existing != null && existing.archive == archive && archive.matches(existing, bytes)) {
+            return;
+        }
+        segments.put(gameId, archive.append(gameId, bytes));
+    }
+
+    public synchronized void clear() throws IOException {
+        List<YearArchive> removed = new ArrayList<>(archives.values());
+        archives.clear();
+        segments.clear();
+        for (YearArchive archive : removed) {
+            archive.close();
+            archive.delete();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        List<YearArchive> removed = new ArrayList<>(archives.values());
+        archives.clear();
+        segments.clear();
+        for (YearArchive archive : removed) {
+            try {
+                archive.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private static class YearArchive {
+
+        private final File file;
+        private FileChannel channel;
+        private volatile MappedByteBuffer mapped;
+        private boolean closed;
+        private int readers;
+
+        private YearArchive(File file) {
+            this.file = file;
+            this.closed = false;
+            this.readers = 0;
+        }
+
+        private synchronized boolean acquire() {
+            if (closed) {
+                return false;
+            }
+            readers++;
+            return true;
+        }
+
+        private synchronized void release() {
+            if (--readers <= 0) {
+                notifyAll();
+            }
+        }
+
+        private synchronized FileChannel getChannel(boolean create) throws IOException {
+            if (closed) {
+                throw new IOException("Archive " + file.getName() + " is closed");
+            }
+            if (channel == null || !channel.isOpen()) {
+                if (create) {
+                    channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                } else {
+                    channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+                }
+            }
+            return channel;
+        }
+
+        private synchronized void scan(Map<UUID, Segment> segments) throws IOException {
+            FileChannel channel = getChannel(false);
+            long size = channel.size();
+            long position = 0;
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+            while (position + RECORD_HEADER_SIZE <= size) {
+                header.clear();
+                while (header.hasRemaining()) {
+                    if (channel.read(header, position + header.position()) < 0) {
+                        break;
+                    }
+                }
+                header.flip();
+                if (header.remaining() < RECORD_HEADER_SIZE || header.getInt() != RECORD_MAGIC) {
+                    break;
+                }
+                UUID gameId = new UUID(header.getLong(), header.getLong());
+                int length = header.getInt();
+                if (length < 0 || position + RECORD_HEADER_SIZE + length > size) {
+                    break;
+                }
+                segments.put(gameId, new Segment(this, (int) (position + RECORD_HEADER_SIZE), length));
+                position += RECORD_HEADER_SIZE + length;
+            }
+            if (position < size) {
+                channel.truncate(position);
+            }
+        }
+
+        private synchronized boolean needsCompaction(Map<UUID, Segment> segments) throws IOException {
+            long size = getChannel(false).size();
+            long live = 0;
+            for (Segment segment : segments.values()) {
+                if (segment.archive == this) {
+                    live += RECORD_HEADER_SIZE + segment.length;
+                }
+            }
+            long garbage = size - live;
+            return garbage >= COMPACTION_MIN_GARBAGE && garbage > live;
+        }
+
+        private synchronized void compact(Map<UUID, Segment> segments) throws IOException {
+            List<Map.Entry<UUID, Segment>> live = new ArrayList<>();
+            for (Map.Entry<UUID, Segment> entry : segments.entrySet()) {
+                if (entry.getValue().archive == this) {
+                    live.add(entry);
+                }
+            }
+            live.sort(Comparator.comparingInt(entry -> entry.getValue().offset));
+            FileChannel channel = getChannel(false);
+            File temporaryFile = new File(file.getParentFile(), file.getName() + ".tmp");
+            Map<UUID, Segment> compacted = new HashMap<>();
+            try (FileChannel output = FileChannel.open(temporaryFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long position = 0;
+                for (Map.Entry<UUID, Segment> entry : live) {
+                    Segment segment = entry.getValue();
+                    long recordStart = segment.offset - RECORD_HEADER_SIZE;
+                    long recordLength = RECORD_HEADER_SIZE + segment.length;
+                    long transferred = 0;
+                    while (transferred < recordLength) {
+                        transferred += channel.transferTo(recordStart + transferred, recordLength - transferred, output);
+                    }
+                    compacted.put(entry.getKey(), new Segment(this, (int) (position + RECORD_HEADER_SIZE), segment.length));
+                    position += recordLength;
+                }
+                output.force(false);
+            }
+            channel.close();
+            this.channel = null;
+            Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            segments.putAll(compacted);
+        }
+
+        private boolean matches(Segment segment, byte[] bytes) throws IOException {
+            if (segment.length != bytes.length || !acquire()) {
+                return false;
+            }
+            try {
+                return slice(segment.offset, segment.length).equals(ByteBuffer.wrap(bytes));
+            } finally {
+                release();
+            }
+        }
+
+        private synchronized Segment append(UUID gameId, byte[] bytes) throws IOException {
+            FileChannel channel = getChannel(true);
+            long position = channel.size();
+            if (position + RECORD_HEADER_SIZE + bytes.length > Integer.MAX_VALUE) {
+                throw new IOException("Archive " + file.getName() + " is full");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + bytes.length);
+            buffer.putInt(RECORD_MAGIC);
+            buffer.putLong(gameId.getMostSignificantBits());
+            buffer.putLong(gameId.getLeastSignificantBits());
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+            buffer.flip();
+            long writePosition = position;
+            while (buffer.hasRemaining()) {
+                writePosition += channel.write(buffer, writePosition);
+            }
+            channel.force(false);
+            return new Segment(this, (int) (position + RECORD_HEADER_SIZE), bytes.length);
+        }
+
+        private ByteBuffer slice(int offset, int length) throws IOException {
+            MappedByteBuffer mapped = this.mapped;
+            if (mapped == null || offset + length > mapped.capacity()) {
+                synchronized (this) {
+                    mapped = this.mapped;
+                    if (mapped == null || offset + length > mapped.capacity()) {
+                        FileChannel channel = getChannel(false);
+                        this.mapped = mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    }
+                }
+            }
+            if (offset < 0 || length < 0 || offset + length > mapped.capacity()) {
+                throw new IOException("Segment out of bounds in " + file.getName());
+            }
+            ByteBuffer buffer = mapped.duplicate();
+            buffer.limit(offset + length).position(offset);
+            return buffer.slice();
+        }
+
+        private synchronized void close() throws IOException {
+            closed = true;
+            try {
+                while (readers > 0) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for readers of " + file.getName());
+            } finally {
+                mapped = null;
+                if (channel != null) {
+                    channel.close();
+                    channel = null;
+                }
+            }
+        }
+
+        private void delete() throws IOException {
+            try {
+                Files.deleteIfExists(file.toPath());
+            } catch (IOException e) {
+                // Windows refuses to delete a file while a MappedByteBuffer of it has not been collected yet
+                System.gc();
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+    }
+
+    private static class Segment {
+
+        private final YearArchive archive;
+        private final int offset;
+        private final int length;
+
+        private Segment(YearArchive archive, int offset, int length) {
+            this.archive = archive;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+}
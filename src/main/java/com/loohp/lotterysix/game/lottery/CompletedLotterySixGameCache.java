@@ -0,0 +1,259 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.lottery;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CompletedLotterySixGameCache {
+
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 128L * 1024 * 1024;
+
+    private final Map<UUID, Entry> strongCache;
+    private final Cache<UUID, CompletedLotterySixGame> softCache;
+    private final LongAdder hitCount;
+    private final LongAdder softHitCount;
+    private final LongAdder missCount;
+    private final LongAdder loadCount;
+    private final LongAdder totalLoadTime;
+    private final LongAdder evictionCount;
+    private final LongAdder prefetchCount;
+    private long weight;
+    private long maximumWeight;
+    private boolean softReferences;
+
+    public CompletedLotterySixGameCache() {
+        this(DEFAULT_MAXIMUM_WEIGHT, true);
+    }
+
+    public CompletedLotterySixGameCache(long maximumWeight, boolean softReferences) {
+        this.strongCache = new LinkedHashMap<>(16, 0.75F, true);
+        this.softCache = CacheBuilder.newBuilder().softValues().build();
+        this.hitCount = new LongAdder();
+        this.softHitCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.loadCount = new LongAdder();
+        this.totalLoadTime = new LongAdder();
+        this.evictionCount = new LongAdder();
+        this.prefetchCount = new LongAdder();
+        this.weight = 0;
+        this.maximumWeight = maximumWeight;
+        this.softReferences = softReferences;
+    }
+
+    public synchronized CompletedLotterySixGame get(UUID gameId) {
+        Entry entry = strongCache.get(gameId);
+        if (entry != null) {
+            hitCount.increment();
+            return entry.getGame();
+        }
+        CompletedLotterySixGame game = softCache.getIfPresent(gameId);
+        if (game != null) {
+            softHitCount.increment();
+            softCache.invalidate(gameId);
+            put(gameId, game, game.estimateRetainedSize());
+            return game;
+        }
+        missCount.increment();
+        return null;
+    }
+
+    public void put(UUID gameId, CompletedLotterySixGame game) {
+        long gameWeight = game.estimateRetainedSize();
+        synchronized (this) {
+            put(gameId, game, gameWeight);
+        }
+    }
+
+    private void put(UUID gameId, CompletedLotterySixGame game, long gameWeight) {
+        Entry entry = new Entry(game, gameWeight);
+        Entry previous = strongCache.put(gameId, entry);
+        if (previous != null) {
+            weight -= previous.getWeight();
+        }
+        weight += entry.getWeight();
+        evict();
+    }
+
+    public synchronized boolean contains(UUID gameId) {
+        return strongCache.containsKey(gameId) || softCache.getIfPresent(gameId) != null;
+    }
+
+    public synchronized boolean hasRoom() {
+        return weight < maximumWeight;
+    }
+
+    public boolean offerPrefetched(UUID gameId, CompletedLotterySixGame game) {
+        long gameWeight = game.estimateRetainedSize();
+        synchronized (this) {
+            return offerPrefetched(gameId, game, gameWeight);
+        }
+    }
+
+    private boolean offerPrefetched(UUID gameId, CompletedLotterySixGame game, long gameWeight) {
+        if (strongCache.containsKey(gameId)) {
+            return false;
+        }
+        if (weight + gameWeight <= maximumWeight) {
+            strongCache.put(gameId, new Entry(game, gameWeight));
+            weight += gameWeight;
+        } else if (softReferences) {
+            softCache.put(gameId, game);
+        } else {
+            return false;
+        }
+        prefetchCount.increment();
+        return true;
+    }
+
+    public synchronized CompletedLotterySixGame remove(UUID gameId) {
+        Entry entry = strongCache.remove(gameId);
+        CompletedLotterySixGame softGame = softCache.getIfPresent(gameId);
+        softCache.invalidate(gameId);
+        if (entry == null) {
+            return softGame;
+        }
+        weight -= entry.getWeight();
+        return entry.getGame();
+    }
+
+    public synchronized void clear() {
+        strongCache.clear();
+        softCache.invalidateAll();
+        weight = 0;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<UUID, Entry>> itr = strongCache.entrySet().iterator();
+        while (weight > maximumWeight && strongCache.size() > 1 && itr.hasNext()) {
+            Map.Entry<UUID, Entry> eldest = itr.next();
+            itr.remove();
+            weight -= eldest.getValue().getWeight();
+            evictionCount.increment();
+            if (softReferences) {
+                softCache.put(eldest.getKey(), eldest.getValue().getGame());
+            }
+        }
+    }
+
+    public void recordLoad(long loadTime) {
+        loadCount.increment();
+        totalLoadTime.add(loadTime);
+    }
+
+    public synchronized void setMaximumWeight(long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+        evict();
+    }
+
+    public synchronized long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public synchronized void setSoftReferences(boolean softReferences) {
+        this.softReferences = softReferences;
+        if (!softReferences) {
+            softCache.invalidateAll();
+        }
+    }
+
+    public synchronized boolean isSoftReferences() {
+        return softReferences;
+    }
+
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    public synchronized int size() {
+        return strongCache.size();
+    }
+
+    public long softSize() {
+        return softCache.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getSoftHitCount() {
+        return softHitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHitCount() + getSoftHitCount();
+        long requests = hits + getMissCount();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getTotalLoadTime() {
+        return totalLoadTime.sum();
+    }
+
+    public double getAverageLoadPenalty() {
+        long loads = getLoadCount();
+        return loads == 0 ? 0.0 : (double) getTotalLoadTime() / loads;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getPrefetchCount() {
+        return prefetchCount.sum();
+    }
+
+    private static class Entry {
+
+        private final CompletedLotterySixGame game;
+        private final long weight;
+
+        private Entry(CompletedLotterySixGame game, long weight) {
+            this.game = game;
+            this.weight = weight;
+        }
+
+        public CompletedLotterySixGame getGame() {
+            return game;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+
+    }
+
+}
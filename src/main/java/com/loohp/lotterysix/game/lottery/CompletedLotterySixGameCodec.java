@@ -0,0 +1,307 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.lottery;
+
+import com.loohp.lotterysix.game.objects.NumberStatistics;
+import com.loohp.lotterysix.game.objects.PlayerBets;
+import com.loohp.lotterysix.game.objects.PlayerWinnings;
+import com.loohp.lotterysix.game.objects.PrizeTier;
+import com.loohp.lotterysix.game.objects.WinningNumbers;
+import com.loohp.lotterysix.utils.ByteBufferInputStream;
+import com.loohp.lotterysix.utils.DataTypeIO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class CompletedLotterySixGameCodec {
+
+    public static final int MAGIC = 0x4C534741;
+    public static final int VERSION = 1;
+
+    public static final int SECTION_HEADER = 1;
+    public static final int SECTION_NUMBER_STATISTICS = 2;
+    public static final int SECTION_PRIZES = 3;
+    public static final int SECTION_WINNERS = 4;
+    public static final int SECTION_BETS = 5;
+    public static final int SECTION_SUMMARY = 6;
+
+    private static final int[] SECTIONS = {SECTION_HEADER, SECTION_NUMBER_STATISTICS, SECTION_PRIZES, SECTION_WINNERS, SECTION_BETS, SECTION_SUMMARY};
+    private static final int SECTION_TABLE_ENTRY_SIZE = 9;
+
+    public static boolean isArchive(ByteBuffer buffer) {
+        return buffer.remaining() >= 4 && buffer.getInt(buffer.position()) == MAGIC;
+    }
+
+    public static byte[] encode(CompletedLotterySixGame game) throws IOException {
+        byte[][] sections = new byte[SECTIONS.length][];
+        for (int i = 0; i < SECTIONS.length; i++) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(buffer);
+            writeSection(out, SECTIONS[i], game);
+            out.flush();
+            sections[i] = buffer.toByteArray();
+        }
+        int offset = 4 + 1 + 1 + SECTIONS.length * SECTION_TABLE_ENTRY_SIZE;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(offset + sections[SECTIONS.length - 1].length);
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(SECTIONS.length);
+        for (int i = 0; i < SECTIONS.length; i++) {
+            out.writeByte(SECTIONS[i]);
+            out.writeInt(offset);
+            out.writeInt(sections[i].length);
+            offset += sections[i].length;
+        }
+        for (byte[] section : sections) {
+            out.write(section);
+        }
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    private static void writeSection(DataOutputStream out, int section, CompletedLotterySixGame game) throws IOException {
+        switch (section) {
+            case SECTION_HEADER: {
+                DataTypeIO.writeUUID(out, game.getGameId());
+                DataTypeIO.writeVarLong(out, game.getDatetime());
+                GameNumber gameNumber = game.getGameNumber();
+                out.writeBoolean(gameNumber != null);
+                if (gameNumber != null) {
+                    DataTypeIO.writeVarInt(out, gameNumber.getYear().getValue());
+                    DataTypeIO.writeVarInt(out, gameNumber.getNumber());
+                }
+                DataTypeIO.writeNullableVarString(out, game.getSpecialName());
+                DataTypeIO.writeWinningNumbers(out, game.getDrawResult());
+                DataTypeIO.writeSignedVarLong(out, game.getPricePerBet());
+                DataTypeIO.writeSignedVarLong(out, game.getTotalPrizes());
+                DataTypeIO.writeSignedVarLong(out, game.getRemainingFunds());
+                DataTypeIO.writeSignedVarLong(out, game.getLotteriesFunds());
+                break;
+            }
+            case SECTION_NUMBER_STATISTICS: {
+                Map<Integer, NumberStatistics> numberStatistics = game.getNumberStatistics();
+                DataTypeIO.writeVarInt(out, numberStatistics.size());
+                for (Map.Entry<Integer, NumberStatistics> entry : numberStatistics.entrySet()) {
+                    DataTypeIO.writeVarInt(out, entry.getKey());
+                    DataTypeIO.writeSignedVarLong(out, entry.getValue().getLastDrawn());
+                    DataTypeIO.writeVarInt(out, entry.getValue().getTimesDrawn());
+                }
+                break;
+            }
+            case SECTION_PRIZES: {
+                Map<PrizeTier, Long> prizeForTiers = game.getPrizeForTiers();
+                DataTypeIO.writeVarInt(out, prizeForTiers.size());
+                for (Map.Entry<PrizeTier, Long> entry : prizeForTiers.entrySet()) {
+                    out.writeByte(entry.getKey().ordinal());
+                    DataTypeIO.writeSignedVarLong(out, entry.getValue());
+                }
+                break;
+            }
+            case SECTION_WINNERS: {
+                List<PlayerWinnings> winnings = game.getWinnings();
+                DataTypeIO.writeVarInt(out, winnings.size());
+                for (PlayerWinnings playerWinnings : winnings) {
+                    DataTypeIO.writePlayerWinnings(out, playerWinnings);
+                }
+                break;
+            }
+            case SECTION_BETS: {
+                Collection<PlayerBets> bets = game.getBets();
+                DataTypeIO.writeVarInt(out, bets.size());
+                for (PlayerBets playerBets : bets) {
+                    DataTypeIO.writePlayerBets(out, playerBets);
+                }
+                break;
+            }
+            case SECTION_SUMMARY: {
+                CompletedLotterySixGameIndex gameIndex = game.toGameIndex();
+                DataTypeIO.writeVarLong(out, gameIndex.getTotalBets());
+                PrizeTier[] prizeTiers = PrizeTier.values();
+                DataTypeIO.writeVarInt(out, prizeTiers.length);
+                for (PrizeTier prizeTier : prizeTiers) {
+                    out.writeByte(prizeTier.ordinal());
+                    out.writeDouble(gameIndex.getWinnerCountForTier(prizeTier));
+                }
+                break;
+            }
+            default: {
+                throw new IllegalArgumentException("Unknown section " + section);
+            }
+        }
+    }
+
+    private static DataInputStream section(ByteBuffer buffer, int section) throws IOException {
+        DataInputStream in = optionalSection(buffer, section);
+        if (in == null) {
+            throw new IOException("Section " + section + " is missing");
+        }
+        return in;
+    }
+
+    private static DataInputStream optionalSection(ByteBuffer buffer, int section) throws IOException {
+        ByteBuffer archive = buffer.duplicate();
+        int base = archive.position();
+        if (archive.remaining() < 6 || archive.getInt() != MAGIC) {
+            throw new IOException("Not a LotterySix game archive");
+        }
+        int version = archive.get() & 0xFF;
+        if (version > VERSION) {
+            throw new IOException("Unsupported LotterySix game archive version " + version);
+        }
+        int count = archive.get() & 0xFF;
+        for (int i = 0; i < count; i++) {
+            int id = archive.get() & 0xFF;
+            int offset = archive.getInt();
+            int length = archive.getInt();
+            if (id == section) {
+                if (offset < 0 || length < 0 || base + offset + length > archive.limit()) {
+                    throw new IOException("Section " + section + " is out of bounds");
+                }
+                archive.limit(base + offset + length).position(base + offset);
+                return new DataInputStream(new ByteBufferInputStream(archive.slice()));
+            }
+        }
+        return null;
+    }
+
+    public static CompletedLotterySixGameIndex decodeIndex(ByteBuffer buffer) throws IOException {
+        Header header = readHeader(section(buffer, SECTION_HEADER));
+        DataInputStream in = optionalSection(buffer, SECTION_SUMMARY);
+        if (in == null) {
+            return new CompletedLotterySixGameIndex(header.gameId, header.datetime, header.gameNumber, header.drawResult, header.specialName);
+        }
+        long totalBets = DataTypeIO.readVarLong(in);
+        int size = DataTypeIO.readVarInt(in);
+        Map<PrizeTier, Double> winnerCountForTier = new EnumMap<>(PrizeTier.class);
+        for (int i = 0; i < size; i++) {
+            PrizeTier prizeTier = PrizeTier.values()[in.readUnsignedByte()];
+            winnerCountForTier.put(prizeTier, in.readDouble());
+        }
+        return new CompletedLotterySixGameIndex(header.gameId, header.datetime, header.gameNumber, header.drawResult, header.specialName, decodePrizeForTiers(buffer), winnerCountForTier, totalBets, header.totalPrizes);
+    }
+
+    public static Map<Integer, NumberStatistics> decodeNumberStatistics(ByteBuffer buffer) throws IOException {
+        DataInputStream in = section(buffer, SECTION_NUMBER_STATISTICS);
+        int size = DataTypeIO.readVarInt(in);
+        Map<Integer, NumberStatistics> numberStatistics = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            int number = DataTypeIO.readVarInt(in);
+            numberStatistics.put(number, new NumberStatistics((int) DataTypeIO.readSignedVarLong(in), DataTypeIO.readVarInt(in)));
+        }
+        return numberStatistics;
+    }
+
+    public static Map<PrizeTier, Long> decodePrizeForTiers(ByteBuffer buffer) throws IOException {
+        DataInputStream in = section(buffer, SECTION_PRIZES);
+        int size = DataTypeIO.readVarInt(in);
+        Map<PrizeTier, Long> prizeForTier = new EnumMap<>(PrizeTier.class);
+        for (int i = 0; i < size; i++) {
+            PrizeTier prizeTier = PrizeTier.values()[in.readUnsignedByte()];
+            prizeForTier.put(prizeTier, DataTypeIO.readSignedVarLong(in));
+        }
+        return prizeForTier;
+    }
+
+    public static List<PlayerWinnings> decodeWinnings(ByteBuffer buffer) throws IOException {
+        DataInputStream in = section(buffer, SECTION_WINNERS);
+        int size = DataTypeIO.readVarInt(in);
+        List<PlayerWinnings> winnings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            winnings.add(DataTypeIO.readPlayerWinnings(in));
+        }
+        return winnings;
+    }
+
+    public static Map<UUID, PlayerBets> decodeBets(ByteBuffer buffer) throws IOException {
+        DataInputStream in = section(buffer, SECTION_BETS);
+        int size = DataTypeIO.readVarInt(in);
+        Map<UUID, PlayerBets> bets = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            PlayerBets playerBets = DataTypeIO.readPlayerBets(in);
+            bets.put(playerBets.getBetId(), playerBets);
+        }
+        return bets;
+    }
+
+    public static CompletedLotterySixGame decode(ByteBuffer buffer) throws IOException {
+        Header header = readHeader(section(buffer, SECTION_HEADER));
+        Map<Integer, NumberStatistics> numberStatistics = decodeNumberStatistics(buffer);
+        Map<PrizeTier, Long> prizeForTier = decodePrizeForTiers(buffer);
+        List<PlayerWinnings> winnings = decodeWinnings(buffer);
+        Map<UUID, PlayerBets> bets = decodeBets(buffer);
+        return new CompletedLotterySixGame(header.gameId, header.datetime, header.gameNumber, header.specialName, header.drawResult, numberStatistics, header.pricePerBet, prizeForTier, winnings, bets, header.totalPrizes, header.remainingFunds, header.lotteriesFunds);
+    }
+
+    public static CompletedLotterySixGame decode(byte[] bytes) throws IOException {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    private static Header readHeader(DataInputStream in) throws IOException {
+        UUID gameId = DataTypeIO.readUUID(in);
+        long datetime = DataTypeIO.readVarLong(in);
+        GameNumber gameNumber = in.readBoolean() ? new GameNumber(Year.of(DataTypeIO.readVarInt(in)), DataTypeIO.readVarInt(in)) : null;
+        String specialName = DataTypeIO.readNullableVarString(in);
+        WinningNumbers drawResult = DataTypeIO.readWinningNumbers(in);
+        long pricePerBet = DataTypeIO.readSignedVarLong(in);
+        long totalPrizes = DataTypeIO.readSignedVarLong(in);
+        long remainingFunds = DataTypeIO.readSignedVarLong(in);
+        long lotteriesFunds = DataTypeIO.readSignedVarLong(in);
+        return new Header(gameId, datetime, gameNumber, specialName, drawResult, pricePerBet, totalPrizes, remainingFunds, lotteriesFunds);
+    }
+
+    private static class Header {
+
+        private final UUID gameId;
+        private final long datetime;
+        private final GameNumber gameNumber;
+        private final String specialName;
+        private final WinningNumbers drawResult;
+        private final long pricePerBet;
+        private final long totalPrizes;
+        private final long remainingFunds;
+        private final long lotteriesFunds;
+
+        private Header(UUID gameId, long datetime, GameNumber gameNumber, String specialName, WinningNumbers drawResult, long pricePerBet, long totalPrizes, long remainingFunds, long lotteriesFunds) {
+            this.gameId = gameId;
+            this.datetime = datetime;
+            this.gameNumber = gameNumber;
+            this.specialName = specialName;
+            this.drawResult = drawResult;
+            this.pricePerBet = pricePerBet;
+            this.totalPrizes = totalPrizes;
+            this.remainingFunds = remainingFunds;
+            this.lotteriesFunds = lotteriesFunds;
+        }
+    }
+
+}
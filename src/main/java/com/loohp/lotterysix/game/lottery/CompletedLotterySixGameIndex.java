@@ -20,8 +20,12 @@
 
 package com.loohp.lotterysix.game.lottery;
 
+import com.loohp.lotterysix.game.objects.PrizeTier;
 import com.loohp.lotterysix.game.objects.WinningNumbers;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -34,14 +38,32 @@ public class CompletedLotterySixGameIndex implements ILotterySixGame {
     private final GameNumber gameNumber;
     private final String drawResult;
     private final String specialName;
+    private final Map<PrizeTier, Long> prizeForTier;
+    private final Map<PrizeTier, Double> winnerCountForTier;
+    private final long totalBets;
+    private final long totalPrizes;
 
     public CompletedLotterySixGameIndex(UUID gameId, long datetime, GameNumber gameNumber, WinningNumbers drawResult, String specialName) {
+        this(gameId, datetime, gameNumber, drawResult, specialName, null, null, 0, 0);
+    }
+
+    public CompletedLotterySixGameIndex(UUID gameId, long datetime, GameNumber gameNumber, WinningNumbers drawResult, String specialName, Map<PrizeTier, Long> prizeForTier, Map<PrizeTier, Double> winnerCountForTier, long totalBets, long totalPrizes) {
         this.gameId = gameId;
         this.datetime = datetime;
         this.gameNumber = gameNumber;
         this.drawResultCache = drawResult;
         this.drawResult = drawResult.toString();
         this.specialName = specialName;
+        this.prizeForTier = prizeForTier == null ? null : copyOf(prizeForTier);
+        this.winnerCountForTier = winnerCountForTier == null ? null : copyOf(winnerCountForTier);
+        this.totalBets = totalBets;
+        this.totalPrizes = totalPrizes;
+    }
+
+    private static <V> Map<PrizeTier, V> copyOf(Map<PrizeTier, V> map) {
+        Map<PrizeTier, V> copy = new EnumMap<>(PrizeTier.class);
+        copy.putAll(map);
+        return Collections.unmodifiableMap(copy);
     }
 
     @Override
@@ -85,6 +107,32 @@ public class CompletedLotterySixGameIndex implements ILotterySixGame {
         return gameId != null && gameNumber != null && drawResult != null;
     }
 
+    public boolean hasSummary() {
+        return prizeForTier != null && winnerCountForTier != null;
+    }
+
+    public long getPrizeForTier(PrizeTier prizeTier) {
+        if (prizeForTier == null) {
+            throw new IllegalStateException("Game index does not contain a summary");
+        }
+        return prizeForTier.getOrDefault(prizeTier, 0L);
+    }
+
+    public double getWinnerCountForTier(PrizeTier prizeTier) {
+        if (winnerCountForTier == null) {
+            throw new IllegalStateException("Game index does not contain a summary");
+        }
+        return winnerCountForTier.getOrDefault(prizeTier, 0.0);
+    }
+
+    public long getTotalBets() {
+        return totalBets;
+    }
+
+    public long getTotalPrizes() {
+        return totalPrizes;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,372 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.lottery;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+
+public class CompletedLotterySixGameIndexList extends AbstractList<CompletedLotterySixGameIndex> implements RandomAccess {
+
+    public static final int SEGMENT_SHIFT = 9;
+    public static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private volatile Snapshot snapshot;
+
+    public CompletedLotterySixGameIndexList() {
+        this.snapshot = Snapshot.EMPTY;
+    }
+
+    public CompletedLotterySixGameIndexList(Collection<? extends CompletedLotterySixGameIndex> collection) {
+        this.snapshot = Snapshot.of(collection.toArray(new CompletedLotterySixGameIndex[0]));
+    }
+
+    @Override
+    public CompletedLotterySixGameIndex get(int index) {
+        return snapshot.get(index);
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size();
+    }
+
+    public synchronized void addFirst(CompletedLotterySixGameIndex gameIndex) {
+        Snapshot snapshot = this.snapshot;
+        this.snapshot = new Snapshot(snapshot.front.append(gameIndex), snapshot.back);
+        modCount++;
+    }
+
+    public synchronized void addLast(CompletedLotterySixGameIndex gameIndex) {
+        Snapshot snapshot = this.snapshot;
+        this.snapshot = new Snapshot(snapshot.front, snapshot.back.append(gameIndex));
+        modCount++;
+    }
+
+    @Override
+    public boolean add(CompletedLotterySixGameIndex gameIndex) {
+        addLast(gameIndex);
+        return true;
+    }
+
+    @Override
+    public synchronized void add(int index, CompletedLotterySixGameIndex gameIndex) {
+        Snapshot snapshot = this.snapshot;
+        int size = snapshot.size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index == 0) {
+            addFirst(gameIndex);
+        } else if (index == size) {
+            addLast(gameIndex);
+        } else {
+            CompletedLotterySixGameIndex[] array = new CompletedLotterySixGameIndex[size + 1];
+            snapshot.copyTo(array, 0, 0, index);
+            array[index] = gameIndex;
+            snapshot.copyTo(array, index, index + 1, size - index);
+            this.snapshot = Snapshot.of(array);
+            modCount++;
+        }
+    }
+
+    @Override
+    public synchronized CompletedLotterySixGameIndex set(int index, CompletedLotterySixGameIndex gameIndex) {
+        Snapshot snapshot = this.snapshot;
+        CompletedLotterySixGameIndex previous = snapshot.get(index);
+        int frontSize = snapshot.front.size;
+        if (index < frontSize) {
+            this.snapshot = new Snapshot(snapshot.front.set(frontSize - 1 - index, gameIndex), snapshot.back);
+        } else {
+            this.snapshot = new Snapshot(snapshot.front, snapshot.back.set(index - frontSize, gameIndex));
+        }
+        return previous;
+    }
+
+    @Override
+    public synchronized CompletedLotterySixGameIndex remove(int index) {
+        Snapshot snapshot = this.snapshot;
+        CompletedLotterySixGameIndex previous = snapshot.get(index);
+        removeRange(index, index + 1);
+        return previous;
+    }
+
+    @Override
+    public synchronized boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        removeRange(index, index + 1);
+        return true;
+    }
+
+    @Override
+    protected synchronized void removeRange(int fromIndex, int toIndex) {
+        Snapshot snapshot = this.snapshot;
+        int size = snapshot.size();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        CompletedLotterySixGameIndex[] array = new CompletedLotterySixGameIndex[size - (toIndex - fromIndex)];
+        snapshot.copyTo(array, 0, 0, fromIndex);
+        snapshot.copyTo(array, toIndex, fromIndex, size - toIndex);
+        this.snapshot = Snapshot.of(array);
+        modCount++;
+    }
+
+    @Override
+    public synchronized boolean removeIf(Predicate<? super CompletedLotterySixGameIndex> filter) {
+        Objects.requireNonNull(filter);
+        CompletedLotterySixGameIndex[] array = snapshot.toArray();
+        int size = 0;
+        for (CompletedLotterySixGameIndex gameIndex : array) {
+            if (!filter.test(gameIndex)) {
+                array[size++] = gameIndex;
+            }
+        }
+        if (size == array.length) {
+            return false;
+        }
+        this.snapshot = Snapshot.of(Arrays.copyOf(array, size));
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        return removeIf(gameIndex -> collection.contains(gameIndex));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        return removeIf(gameIndex -> !collection.contains(gameIndex));
+    }
+
+    @Override
+    public synchronized void sort(Comparator<? super CompletedLotterySixGameIndex> comparator) {
+        CompletedLotterySixGameIndex[] array = snapshot.toArray();
+        Arrays.sort(array, comparator);
+        this.snapshot = Snapshot.of(array);
+        modCount++;
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.snapshot = Snapshot.EMPTY;
+        modCount++;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return snapshot.toArray();
+    }
+
+    @Override
+    public Iterator<CompletedLotterySixGameIndex> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<CompletedLotterySixGameIndex> listIterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<CompletedLotterySixGameIndex> listIterator(int index) {
+        Snapshot snapshot = this.snapshot;
+        if (index < 0 || index > snapshot.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + snapshot.size());
+        }
+        return new SnapshotIterator(snapshot, index);
+    }
+
+    @Override
+    public Spliterator<CompletedLotterySixGameIndex> spliterator() {
+        return Spliterators.spliterator(snapshot.toArray(), Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    private static class Segments {
+
+        private static final Segments EMPTY = new Segments(new CompletedLotterySixGameIndex[0][], 0);
+
+        private final CompletedLotterySixGameIndex[][] directory;
+        private final int size;
+
+        private Segments(CompletedLotterySixGameIndex[][] directory, int size) {
+            this.directory = directory;
+            this.size = size;
+        }
+
+        private CompletedLotterySixGameIndex get(int position) {
+            return directory[position >>> SEGMENT_SHIFT][position & SEGMENT_MASK];
+        }
+
+        private Segments append(CompletedLotterySixGameIndex gameIndex) {
+            int segment = size >>> SEGMENT_SHIFT;
+            CompletedLotterySixGameIndex[][] directory = this.directory;
+            if (segment == directory.length) {
+                directory = Arrays.copyOf(directory, Math.max(4, directory.length * 2));
+            }
+            if (directory[segment] == null) {
+                directory[segment] = new CompletedLotterySixGameIndex[SEGMENT_SIZE];
+            }
+            directory[segment][size & SEGMENT_MASK] = gameIndex;
+            return new Segments(directory, size + 1);
+        }
+
+        private Segments set(int position, CompletedLotterySixGameIndex gameIndex) {
+            int segment = position >>> SEGMENT_SHIFT;
+            CompletedLotterySixGameIndex[][] directory = this.directory.clone();
+            directory[segment] = directory[segment].clone();
+            directory[segment][position & SEGMENT_MASK] = gameIndex;
+            return new Segments(directory, size);
+        }
+
+    }
+
+    private static class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Segments.EMPTY, Segments.EMPTY);
+
+        private static Snapshot of(CompletedLotterySixGameIndex[] array) {
+            Segments back = Segments.EMPTY;
+            for (CompletedLotterySixGameIndex gameIndex : array) {
+                back = back.append(gameIndex);
+            }
+            return new Snapshot(Segments.EMPTY, back);
+        }
+
+        private final Segments front;
+        private final Segments back;
+
+        private Snapshot(Segments front, Segments back) {
+            this.front = front;
+            this.back = back;
+        }
+
+        private int size() {
+            return front.size + back.size;
+        }
+
+        private CompletedLotterySixGameIndex get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            if (index < front.size) {
+                return front.get(front.size - 1 - index);
+            }
+            return back.get(index - front.size);
+        }
+
+        private void copyTo(CompletedLotterySixGameIndex[] array, int fromIndex, int arrayIndex, int length) {
+            for (int i = 0; i < length; i++) {
+                array[arrayIndex + i] = get(fromIndex + i);
+            }
+        }
+
+        private CompletedLotterySixGameIndex[] toArray() {
+            CompletedLotterySixGameIndex[] array = new CompletedLotterySixGameIndex[size()];
+            copyTo(array, 0, 0, array.length);
+            return array;
+        }
+
+    }
+
+    private static class SnapshotIterator implements ListIterator<CompletedLotterySixGameIndex> {
+
+        private final Snapshot snapshot;
+        private int cursor;
+
+        private SnapshotIterator(Snapshot snapshot, int cursor) {
+            this.snapshot = snapshot;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < snapshot.size();
+        }
+
+        @Override
+        public CompletedLotterySixGameIndex next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return snapshot.get(cursor++);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public CompletedLotterySixGameIndex previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            return snapshot.get(--cursor);
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(CompletedLotterySixGameIndex gameIndex) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(CompletedLotterySixGameIndex gameIndex) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.lottery;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class CompletedLotterySixGamePrefetcher {
+
+    public static final int SEQUENTIAL_ACCESS_TRIGGER = 3;
+    public static final int PREFETCH_DISTANCE = 25;
+    public static final long VIEWER_EXPIRY_MINUTES = 10;
+
+    private final Cache<String, ViewerState> viewers;
+
+    public CompletedLotterySixGamePrefetcher() {
+        this.viewers = CacheBuilder.newBuilder().expireAfterAccess(VIEWER_EXPIRY_MINUTES, TimeUnit.MINUTES).build();
+    }
+
+    public int[] accessed(String viewer, int index, int size) {
+        ViewerState state;
+        try {
+            state = viewers.get(viewer, () -> new ViewerState());
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+        return state.accessed(index, size);
+    }
+
+    private static class ViewerState {
+
+        private int lastAccessedIndex;
+        private int direction;
+        private int sequentialAccesses;
+        private int prefetchedUntil;
+
+        private ViewerState() {
+            this.lastAccessedIndex = -1;
+            this.direction = 0;
+            this.sequentialAccesses = 0;
+            this.prefetchedUntil = -1;
+        }
+
+        private synchronized int[] accessed(int index, int size) {
+            int step = index - lastAccessedIndex;
+            lastAccessedIndex = index;
+            if (step == 0) {
+                return null;
+            }
+            if ((step == 1 || step == -1) && step == direction) {
+                sequentialAccesses++;
+            } else {
+                direction = step == 1 || step == -1 ? step : 0;
+                sequentialAccesses = direction == 0 ? 0 : 1;
+                prefetchedUntil = index;
+            }
+            if (sequentialAccesses < SEQUENTIAL_ACCESS_TRIGGER) {
+                return null;
+            }
+            int from = direction > 0 ? Math.max(index, prefetchedUntil) + 1 : Math.min(index, prefetchedUntil) - 1;
+            int to = Math.max(-1, Math.min(size, index + direction * (PREFETCH_DISTANCE + 1)));
+            if (direction > 0 ? from >= to : from <= to) {
+                return null;
+            }
+            prefetchedUntil = to - direction;
+            return new int[] {from, to, direction};
+        }
+
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.lottery;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CompletedLotterySixGameSecondaryIndex {
+
+    private final List<CompletedLotterySixGameIndex> gameIndexes;
+    private final List<CompletedLotterySixGameIndex> reversed;
+    private final Map<GameNumber, Integer> byGameNumber;
+    private final Map<Year, Integer> firstByGameNumberYear;
+    private final Map<Year, BitSet> byYear;
+    private final BitSet[] byMonth;
+    private final BitSet[] byDayOfWeek;
+    private ZoneId zoneId;
+    private boolean valid;
+
+    public CompletedLotterySixGameSecondaryIndex(List<CompletedLotterySixGameIndex> gameIndexes) {
+        this.gameIndexes = gameIndexes;
+        this.reversed = new ArrayList<>();
+        this.byGameNumber = new HashMap<>();
+        this.firstByGameNumberYear = new HashMap<>();
+        this.byYear = new HashMap<>();
+        this.byMonth = new BitSet[Month.values().length];
+        this.byDayOfWeek = new BitSet[DayOfWeek.values().length];
+        this.zoneId = ZoneId.systemDefault();
+        this.valid = false;
+    }
+
+    public synchronized void invalidate() {
+        valid = false;
+    }
+
+    public synchronized void prepended(CompletedLotterySixGameIndex gameIndex) {
+        if (valid && reversed.size() + 1 == gameIndexes.size()) {
+            insert(gameIndex);
+        } else {
+            valid = false;
+        }
+    }
+
+    private void ensureValid(ZoneId zoneId) {
+        if (zoneId != null && !zoneId.equals(this.zoneId)) {
+            this.zoneId = zoneId;
+            valid = false;
+        }
+        if (valid && reversed.size() == gameIndexes.size()) {
+            return;
+        }
+        reversed.clear();
+        byGameNumber.clear();
+        firstByGameNumberYear.clear();
+        byYear.clear();
+        for (int i = 0; i < byMonth.length; i++) {
+            byMonth[i] = new BitSet();
+        }
+        for (int i = 0; i < byDayOfWeek.length; i++) {
+            byDayOfWeek[i] = new BitSet();
+        }
+        Object[] snapshot = gameIndexes.toArray();
+        for (int i = snapshot.length - 1; i >= 0; i--) {
+            insert((CompletedLotterySixGameIndex) snapshot[i]);
+        }
+        valid = true;
+    }
+
+    private void insert(CompletedLotterySixGameIndex gameIndex) {
+        int reversePosition = reversed.size();
+        reversed.add(gameIndex);
+        GameNumber gameNumber = gameIndex.getGameNumber();
+        if (gameNumber != null) {
+            byGameNumber.put(gameNumber, reversePosition);
+            firstByGameNumberYear.put(gameNumber.getYear(), reversePosition);
+        }
+        ZonedDateTime time = ZonedDateTime.ofInstant(Instant.ofEpochMilli(gameIndex.getDatetime()), zoneId);
+        byYear.computeIfAbsent(Year.of(time.getYear()), k -> new BitSet()).set(reversePosition);
+        byMonth[time.getMonthValue() - 1].set(reversePosition);
+        byDayOfWeek[time.getDayOfWeek().getValue() - 1].set(reversePosition);
+    }
+
+    private int toPosition(Integer reversePosition) {
+        return reversePosition == null ? -1 : reversed.size() - 1 - reversePosition;
+    }
+
+    public synchronized int indexOf(GameNumber gameNumber) {
+        ensureValid(null);
+        return toPosition(byGameNumber.get(gameNumber));
+    }
+
+    public synchronized CompletedLotterySixGameIndex get(GameNumber gameNumber) {
+        ensureValid(null);
+        Integer reversePosition = byGameNumber.get(gameNumber);
+        return reversePosition == null ? null : reversed.get(reversePosition);
+    }
+
+    public synchronized int indexOfFirstInYear(Year gameNumberYear) {
+        ensureValid(null);
+        return toPosition(firstByGameNumberYear.get(gameNumberYear));
+    }
+
+    public synchronized List<CompletedLotterySixGameIndex> select(Year year, Month month, DayOfWeek dayOfWeek, ZoneId zoneId) {
+        ensureValid(zoneId);
+        BitSet result = null;
+        if (year != null) {
+            result = intersect(null, byYear.getOrDefault(year, new BitSet()));
+        }
+        if (month != null) {
+            result = intersect(result, byMonth[month.getValue() - 1]);
+        }
+        if (dayOfWeek != null) {
+            result = intersect(result, byDayOfWeek[dayOfWeek.getValue() - 1]);
+        }
+        List<CompletedLotterySixGameIndex> selected = new ArrayList<>(result == null ? reversed.size() : result.cardinality());
+        if (result == null) {
+            for (int i = reversed.size() - 1; i >= 0; i--) {
+                selected.add(reversed.get(i));
+            }
+        } else {
+            for (int i = result.previousSetBit(reversed.size() - 1); i >= 0; i = result.previousSetBit(i - 1)) {
+                selected.add(reversed.get(i));
+            }
+        }
+        return selected;
+    }
+
+    private static BitSet intersect(BitSet result, BitSet bitSet) {
+        if (result == null) {
+            return (BitSet) bitSet.clone();
+        }
+        result.and(bitSet);
+        return result;
+    }
+
+}
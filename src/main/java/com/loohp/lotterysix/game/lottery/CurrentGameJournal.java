@@ -0,0 +1,197 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.lottery;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.loohp.lotterysix.game.objects.PlayerBets;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+
+public class CurrentGameJournal {
+
+    public static final int COMPACTION_THRESHOLD = 4096;
+
+    private static final Gson GSON = new Gson();
+    private static final char HEADER = '#';
+    private static final char ADD = '+';
+    private static final char REMOVE = '-';
+
+    private final File file;
+    private String snapshot;
+    private int records;
+
+    public CurrentGameJournal(File file) {
+        this.file = file;
+        this.snapshot = null;
+        this.records = 0;
+    }
+
+    private static String snapshot(PlayableLotterySixGame game) {
+        return game.getGameId() + "/" + game.getLastSaved();
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public int getRecords() {
+        return records;
+    }
+
+    public boolean isFor(PlayableLotterySixGame game) {
+        return snapshot(game).equals(snapshot) && file.exists();
+    }
+
+    public boolean needsCompaction(int pendingRecords) {
+        return records + pendingRecords > COMPACTION_THRESHOLD;
+    }
+
+    public synchronized void reset(PlayableLotterySixGame game) throws IOException {
+        String snapshot = snapshot(game);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+            writer.write(HEADER + snapshot);
+            writer.newLine();
+            writer.flush();
+            channel.force(false);
+        }
+        this.snapshot = snapshot;
+        this.records = 0;
+    }
+
+    public synchronized void append(List<Entry> entries) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+            for (Entry entry : entries) {
+                if (entry.isAdded()) {
+                    writer.write(ADD + GSON.toJson(entry.getBet()));
+                } else {
+                    writer.write(REMOVE + entry.getBetId().toString());
+                }
+                writer.newLine();
+            }
+            writer.flush();
+            channel.force(false);
+        }
+        records += entries.size();
+    }
+
+    public synchronized void delete() {
+        if (file.exists()) {
+            file.delete();
+        }
+        this.snapshot = null;
+        this.records = 0;
+    }
+
+    public synchronized int replay(PlayableLotterySixGame game) throws IOException {
+        this.snapshot = null;
+        this.records = 0;
+        if (!file.exists()) {
+            return 0;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            String snapshot = snapshot(game);
+            if (header == null || header.isEmpty() || header.charAt(0) != HEADER || !header.substring(1).equals(snapshot)) {
+                return 0;
+            }
+            this.snapshot = snapshot;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                try {
+                    switch (line.charAt(0)) {
+                        case ADD: {
+                            PlayerBets bet = GSON.fromJson(line.substring(1), PlayerBets.class);
+                            if (bet == null) {
+                                return records;
+                            }
+                            game.applyJournalEntry(Entry.added(bet));
+                            break;
+                        }
+                        case REMOVE: {
+                            game.applyJournalEntry(Entry.removed(UUID.fromString(line.substring(1))));
+                            break;
+                        }
+                        default: {
+                            return records;
+                        }
+                    }
+                } catch (JsonParseException | IllegalArgumentException e) {
+                    return records;
+                }
+                records++;
+            }
+        }
+        return records;
+    }
+
+    public static class Entry {
+
+        public static Entry added(PlayerBets bet) {
+            return new Entry(true, bet.getBetId(), bet);
+        }
+
+        public static Entry removed(UUID betId) {
+            return new Entry(false, betId, null);
+        }
+
+        private final boolean added;
+        private final UUID betId;
+        private final PlayerBets bet;
+
+        private Entry(boolean added, UUID betId, PlayerBets bet) {
+            this.added = added;
+            this.betId = betId;
+            this.bet = bet;
+        }
+
+        public boolean isAdded() {
+            return added;
+        }
+
+        public UUID getBetId() {
+            return betId;
+        }
+
+        public PlayerBets getBet() {
+            return bet;
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.lottery;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public class CurrentGameRevisionLog {
+
+    public static final int MAX_RECORDS = 8192;
+
+    private final ArrayDeque<Record> records;
+    private long revision;
+    private long headerRevision;
+    private long truncatedRevision;
+
+    public CurrentGameRevisionLog() {
+        this.records = new ArrayDeque<>();
+        this.revision = 0;
+        this.headerRevision = 0;
+        this.truncatedRevision = 0;
+    }
+
+    public synchronized long getRevision() {
+        return revision;
+    }
+
+    public synchronized long getHeaderRevision() {
+        return headerRevision;
+    }
+
+    public synchronized void bumpHeader() {
+        headerRevision = ++revision;
+    }
+
+    public synchronized void record(CurrentGameJournal.Entry entry) {
+        records.addLast(new Record(++revision, entry));
+        while (records.size() > MAX_RECORDS) {
+            truncatedRevision = records.removeFirst().revision;
+        }
+    }
+
+    public synchronized Delta getChangesSince(long since) {
+        if (since < truncatedRevision || since > revision) {
+            return null;
+        }
+        List<CurrentGameJournal.Entry> entries = new ArrayList<>();
+        Iterator<Record> itr = records.descendingIterator();
+        while (itr.hasNext()) {
+            Record record = itr.next();
+            if (record.revision <= since) {
+                break;
+            }
+            entries.add(record.entry);
+        }
+        List<CurrentGameJournal.Entry> ordered = new ArrayList<>(entries.size());
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            ordered.add(entries.get(i));
+        }
+        return new Delta(since, revision, headerRevision > since, ordered);
+    }
+
+    private static class Record {
+
+        private final long revision;
+        private final CurrentGameJournal.Entry entry;
+
+        private Record(long revision, CurrentGameJournal.Entry entry) {
+            this.revision = revision;
+            this.entry = entry;
+        }
+
+    }
+
+    public static class Delta {
+
+        private final long fromRevision;
+        private final long toRevision;
+        private final boolean headerChanged;
+        private final List<CurrentGameJournal.Entry> entries;
+
+        private Delta(long fromRevision, long toRevision, boolean headerChanged, List<CurrentGameJournal.Entry> entries) {
+            this.fromRevision = fromRevision;
+            this.toRevision = toRevision;
+            this.headerChanged = headerChanged;
+            this.entries = entries;
+        }
+
+        public long getFromRevision() {
+            return fromRevision;
+        }
+
+        public long getToRevision() {
+            return toRevision;
+        }
+
+        public boolean isHeaderChanged() {
+            return headerChanged;
+        }
+
+        public List<CurrentGameJournal.Entry> getEntries() {
+            return entries;
+        }
+
+        public boolean isEmpty() {
+            return !headerChanged && entries.isEmpty();
+        }
+
+    }
+
+}
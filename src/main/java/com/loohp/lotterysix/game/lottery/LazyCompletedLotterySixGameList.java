@@ -24,6 +24,8 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 
 import java.lang.reflect.Array;
+import java.time.Year;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -31,14 +33,19 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -46,28 +53,71 @@ import java.util.stream.Stream;
 
 public class LazyCompletedLotterySixGameList implements List<CompletedLotterySixGame>, RandomAccess {
 
+    public static final int LOADER_THREADS = 2;
+    public static final int PREFETCH_QUEUE_SIZE = CompletedLotterySixGamePrefetcher.PREFETCH_DISTANCE;
+
     private final Function<CompletedLotterySixGameIndex, CompletedLotterySixGame> gameLoader;
     private final List<CompletedLotterySixGameIndex> gameIndexes;
-    private final Map<UUID, CompletedLotterySixGame> cachedGames;
+    private final CompletedLotterySixGameCache cachedGames;
     private final Map<UUID, CompletedLotterySixGame> dirtyGames;
     private final Map<UUID, Object> gameLoadingLock;
+    private final Map<UUID, CompletableFuture<CompletedLotterySixGame>> pendingLoads;
+    private final ExecutorService loaderService;
+    private final ExecutorService prefetchService;
+    private final CompletedLotterySixGamePrefetcher prefetcher;
+    private final CompletedLotterySixGameSecondaryIndex secondaryIndex;
+    private final List<CompletedLotterySixGameSecondaryIndex> parentSecondaryIndexes;
 
     public LazyCompletedLotterySixGameList(Function<CompletedLotterySixGameIndex, CompletedLotterySixGame> gameLoader) {
         this.gameLoader = gameLoader;
-        this.gameIndexes = new CopyOnWriteArrayList<>();
-        Cache<UUID, CompletedLotterySixGame> cache = CacheBuilder.newBuilder().maximumSize(20).build();
-        this.cachedGames = cache.asMap();
+        this.gameIndexes = new CompletedLotterySixGameIndexList();
+        this.cachedGames = new CompletedLotterySixGameCache();
         this.dirtyGames = new ConcurrentHashMap<>();
         Cache<UUID, Object> loadingLock = CacheBuilder.newBuilder().weakValues().build();
         this.gameLoadingLock = loadingLock.asMap();
-    }
-
-    private LazyCompletedLotterySixGameList(Function<CompletedLotterySixGameIndex, CompletedLotterySixGame> gameLoader, List<CompletedLotterySixGameIndex> gameIndexes, Map<UUID, CompletedLotterySixGame> cachedGames, Map<UUID, CompletedLotterySixGame> dirtyGames, Map<UUID, Object> gameLoadingLock) {
+        this.pendingLoads = new ConcurrentHashMap<>();
+        this.loaderService = Executors.newFixedThreadPool(LOADER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "LotterySix Past Game Loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.prefetchService = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(PREFETCH_QUEUE_SIZE), runnable -> {
+            Thread thread = new Thread(runnable, "LotterySix Past Game Prefetcher");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardOldestPolicy());
+        this.prefetcher = new CompletedLotterySixGamePrefetcher();
+        this.secondaryIndex = new CompletedLotterySixGameSecondaryIndex(gameIndexes);
+        this.parentSecondaryIndexes = Collections.emptyList();
+    }
+
+    private LazyCompletedLotterySixGameList(Function<CompletedLotterySixGameIndex, CompletedLotterySixGame> gameLoader, List<CompletedLotterySixGameIndex> gameIndexes, CompletedLotterySixGameCache cachedGames, Map<UUID, CompletedLotterySixGame> dirtyGames, Map<UUID, Object> gameLoadingLock, Map<UUID, CompletableFuture<CompletedLotterySixGame>> pendingLoads, ExecutorService loaderService, ExecutorService prefetchService, List<CompletedLotterySixGameSecondaryIndex> parentSecondaryIndexes) {
         this.gameLoader = gameLoader;
         this.gameIndexes = gameIndexes;
         this.cachedGames = cachedGames;
         this.dirtyGames = dirtyGames;
         this.gameLoadingLock = gameLoadingLock;
+        this.pendingLoads = pendingLoads;
+        this.loaderService = loaderService;
+        this.prefetchService = prefetchService;
+        this.prefetcher = new CompletedLotterySixGamePrefetcher();
+        this.secondaryIndex = new CompletedLotterySixGameSecondaryIndex(gameIndexes);
+        this.parentSecondaryIndexes = parentSecondaryIndexes;
+    }
+
+    private void indexesModified() {
+        secondaryIndex.invalidate();
+        for (CompletedLotterySixGameSecondaryIndex parentSecondaryIndex : parentSecondaryIndexes) {
+            parentSecondaryIndex.invalidate();
+        }
+    }
+
+    private void indexPrepended(CompletedLotterySixGameIndex gameIndex) {
+        secondaryIndex.prepended(gameIndex);
+        for (CompletedLotterySixGameSecondaryIndex parentSecondaryIndex : parentSecondaryIndexes) {
+            parentSecondaryIndex.invalidate();
+        }
     }
 
     private Object getGameLoadingLock(UUID gameId) {
@@ -83,13 +133,19 @@ public class LazyCompletedLotterySixGameList implements List<CompletedLotterySix
     }
 
     public void setGameDirty(UUID gameId) {
-        CompletedLotterySixGame game = lookForCached(gameId);
+        if (dirtyGames.containsKey(gameId)) {
+            return;
+        }
+        CompletedLotterySixGame game = cachedGames.remove(gameId);
         if (game != null) {
-            cachedGames.remove(gameId);
             dirtyGames.put(gameId, game);
         }
     }
 
+    public CompletedLotterySixGameCache getCache() {
+        return cachedGames;
+    }
+
     public Iterator<CompletedLotterySixGame> dirtyGamesIterator() {
         return dirtyGames.values().iterator();
     }
@@ -121,26 +177,146 @@ public class LazyCompletedLotterySixGameList implements List<CompletedLotterySix
             if (game != null) {
                 return game;
             }
+            long start = System.nanoTime();
             game = gameLoader.apply(gameIndex);
+            cachedGames.recordLoad(System.nanoTime() - start);
             cachedGames.put(gameIndex.getGameId(), game);
             return game;
         }
     }
 
-    public CompletedLotterySixGame get(GameNumber gameNumber) {
-        for (CompletedLotterySixGameIndex gameIndex : gameIndexes) {
-            GameNumber number = gameIndex.getGameNumber();
-            if (Objects.equals(number, gameNumber)) {
-                return get(gameIndex);
+    public CompletedLotterySixGame getIfLoaded(CompletedLotterySixGameIndex gameIndex) {
+        return lookForCached(gameIndex.getGameId());
+    }
+
+    public CompletedLotterySixGame getLatestIfLoaded() {
+        if (gameIndexes.isEmpty()) {
+            return null;
+        }
+        return getIfLoaded(gameIndexes.get(0));
+    }
+
+    public CompletableFuture<CompletedLotterySixGame> getLatestAsync() {
+        if (gameIndexes.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return getAsync(gameIndexes.get(0));
+    }
+
+    public CompletableFuture<CompletedLotterySixGame> getAsync(int index) {
+        return getAsync(gameIndexes.get(index));
+    }
+
+    public CompletableFuture<CompletedLotterySixGame> getAsync(GameNumber gameNumber) {
+        CompletedLotterySixGameIndex gameIndex = getIndex(gameNumber);
+        if (gameIndex == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return getAsync(gameIndex);
+    }
+
+    public CompletableFuture<CompletedLotterySixGame> getAsync(CompletedLotterySixGameIndex gameIndex) {
+        UUID gameId = gameIndex.getGameId();
+        CompletedLotterySixGame game = lookForCached(gameId);
+        if (game != null) {
+            return CompletableFuture.completedFuture(game);
+        }
+        CompletableFuture<CompletedLotterySixGame> future = new CompletableFuture<>();
+        CompletableFuture<CompletedLotterySixGame> pending = pendingLoads.putIfAbsent(gameId, future);
+        if (pending != null) {
+            return pending;
+        }
+        try {
+            loaderService.execute(() -> {
+                try {
+                    future.complete(get(gameIndex));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    pendingLoads.remove(gameId, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingLoads.remove(gameId, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    public void accessed(String viewer, int index) {
+        int[] range = prefetcher.accessed(viewer, index, gameIndexes.size());
+        if (range == null) {
+            return;
+        }
+        for (int i = range[0]; i != range[1]; i += range[2]) {
+            CompletedLotterySixGameIndex gameIndex;
+            try {
+                gameIndex = gameIndexes.get(i);
+            } catch (IndexOutOfBoundsException e) {
+                return;
             }
+            prefetch(gameIndex);
         }
-        return null;
+    }
+
+    public void prefetch(CompletedLotterySixGameIndex gameIndex) {
+        UUID gameId = gameIndex.getGameId();
+        if (dirtyGames.containsKey(gameId) || pendingLoads.containsKey(gameId) || cachedGames.contains(gameId) || !cachedGames.hasRoom()) {
+            return;
+        }
+        try {
+            prefetchService.execute(() -> {
+                synchronized (getGameLoadingLock(gameId)) {
+                    if (dirtyGames.containsKey(gameId) || cachedGames.contains(gameId) || !cachedGames.hasRoom()) {
+                        return;
+                    }
+                    long start = System.nanoTime();
+                    CompletedLotterySixGame game = gameLoader.apply(gameIndex);
+                    cachedGames.recordLoad(System.nanoTime() - start);
+                    if (game != null) {
+                        cachedGames.offerPrefetched(gameId, game);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException ignore) {
+        }
+    }
+
+    public void shutdown() {
+        loaderService.shutdown();
+        prefetchService.shutdownNow();
+    }
+
+    public CompletedLotterySixGame get(GameNumber gameNumber) {
+        CompletedLotterySixGameIndex gameIndex = getIndex(gameNumber);
+        if (gameIndex == null) {
+            return null;
+        }
+        return get(gameIndex);
     }
 
     public CompletedLotterySixGameIndex getIndex(int index) {
         return gameIndexes.get(index);
     }
 
+    public CompletedLotterySixGameIndex getIndex(GameNumber gameNumber) {
+        if (gameNumber == null) {
+            return null;
+        }
+        return secondaryIndex.get(gameNumber);
+    }
+
+    public int indexOf(GameNumber gameNumber) {
+        if (gameNumber == null) {
+            return -1;
+        }
+        return secondaryIndex.indexOf(gameNumber);
+    }
+
+    public int indexOfFirstInYear(Year gameNumberYear) {
+        return secondaryIndex.indexOfFirstInYear(gameNumberYear);
+    }
+
     @Override
     public int size() {
         return gameIndexes.size();
@@ -172,6 +348,7 @@ public class LazyCompletedLotterySixGameList implements List<CompletedLotterySix
         cachedGames.remove(lastGame.getGameId());
         CompletedLotterySixGameIndex gameIndex = element.toGameIndex();
         gameIndexes.set(index, gameIndex);
+        indexesModified();
         dirtyGames.put(gameIndex.getGameId(), element);
         return lastGame;
     }
@@ -180,6 +357,7 @@ public class LazyCompletedLotterySixGameList implements List<CompletedLotterySix
         CompletedLotterySixGame lastGame = get(index);
         cachedGames.remove(lastGame.getGameId());
         gameIndexes.set(index, gameIndex);
+        indexesModified();
         return lastGame;
     }
 
@@ -187,37 +365,68 @@ public class LazyCompletedLotterySixGameList implements List<CompletedLotterySix
     public boolean add(CompletedLotterySixGame element) {
         CompletedLotterySixGameIndex gameIndex = element.toGameIndex();
         dirtyGames.put(gameIndex.getGameId(), element);
-        return gameIndexes.add(gameIndex);
+        boolean result = gameIndexes.add(gameIndex);
+        indexesModified();
+        return result;
     }
 
     @Override
     public void add(int index, CompletedLotterySixGame element) {
         CompletedLotterySixGameIndex gameIndex = element.toGameIndex();
-        gameIndexes.add(index, gameIndex);
+        addIndex(index, gameIndex);
+        dirtyGames.put(gameIndex.getGameId(), element);
+    }
+
+    public int addSorted(CompletedLotterySixGame element, Comparator<? super CompletedLotterySixGameIndex> comparator) {
+        CompletedLotterySixGameIndex gameIndex = element.toGameIndex();
+        int index = Collections.binarySearch(gameIndexes, gameIndex, comparator);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        addIndex(index, gameIndex);
         dirtyGames.put(gameIndex.getGameId(), element);
+        return index;
     }
 
     public boolean addUnloaded(CompletedLotterySixGameIndex gameIndex) {
-        return gameIndexes.add(gameIndex);
+        boolean result = gameIndexes.add(gameIndex);
+        indexesModified();
+        return result;
     }
 
     public void addUnloaded(int index, CompletedLotterySixGameIndex gameIndex) {
-        gameIndexes.add(index, gameIndex);
+        addIndex(index, gameIndex);
+    }
+
+    private void addIndex(int index, CompletedLotterySixGameIndex gameIndex) {
+        if (index == 0) {
+            synchronized (secondaryIndex) {
+                gameIndexes.add(index, gameIndex);
+                indexPrepended(gameIndex);
+            }
+        } else {
+            gameIndexes.add(index, gameIndex);
+            indexesModified();
+        }
     }
 
     @Override
     public boolean remove(Object o) {
         if (o == null || o instanceof CompletedLotterySixGameIndex) {
-            return gameIndexes.remove(o);
+            return remove((CompletedLotterySixGameIndex) o);
         } else if (o instanceof CompletedLotterySixGame) {
-            return gameIndexes.remove(((CompletedLotterySixGame) o).toGameIndex());
+            return remove(((CompletedLotterySixGame) o).toGameIndex());
         } else {
             return false;
         }
     }
 
     public boolean remove(CompletedLotterySixGameIndex o) {
-        return gameIndexes.remove(o);
+        boolean result = gameIndexes.remove(o);
+        if (result) {
+            indexesModified();
+        }
+        return result;
     }
 
     @Override
@@ -263,7 +472,9 @@ public class LazyCompletedLotterySixGameList implements List<CompletedLotterySix
                 clear();
                 return result;
             } else {
-                return gameIndexes.retainAll(Collections.singleton(null));
+                result = gameIndexes.retainAll(Collections.singleton(null));
+                indexesModified();
+                return result;
             }
         }
         Object sample = optSample.get();
@@ -293,6 +504,7 @@ public class LazyCompletedLotterySixGameList implements List<CompletedLotterySix
     public CompletedLotterySixGame remove(int index) {
         CompletedLotterySixGame game = get(index);
         CompletedLotterySixGameIndex gameIndex = gameIndexes.remove(index);
+        indexesModified();
         cachedGames.remove(gameIndex.getGameId());
         return game;
     }
@@ -387,7 +599,9 @@ public class LazyCompletedLotterySixGameList implements List<CompletedLotterySix
 
     @Override
     public LazyCompletedLotterySixGameList subList(int fromIndex, int toIndex) {
-        return new LazyCompletedLotterySixGameList(gameLoader, gameIndexes.subList(fromIndex, toIndex), cachedGames, dirtyGames, gameLoadingLock);
+        List<CompletedLotterySixGameSecondaryIndex> subListParentSecondaryIndexes = new ArrayList<>(parentSecondaryIndexes);
+        subListParentSecondaryIndexes.add(secondaryIndex);
+        return new LazyCompletedLotterySixGameList(gameLoader, gameIndexes.subList(fromIndex, toIndex), cachedGames, dirtyGames, gameLoadingLock, pendingLoads, loaderService, prefetchService, subListParentSecondaryIndexes);
     }
 
     @Override
@@ -474,8 +688,8 @@ public class LazyCompletedLotterySixGameList implements List<CompletedLotterySix
     }
 
     public Stream<CompletedLotterySixGameIndex> queryStream(CompletedLotteryGamesQuery query, TimeZone timeZone) {
-        Predicate<CompletedLotterySixGameIndex> predicate = query.getQueryPredicate(this, timeZone);
-        return indexStream().filter(predicate);
+        Predicate<CompletedLotterySixGameIndex> predicate = query.getAttributeQueryPredicate(this);
+        return secondaryIndex.select(query.getYear(), query.getMonth(), query.getDayOfWeek(), timeZone.toZoneId()).stream().filter(predicate);
     }
 
     @Override
@@ -493,6 +707,7 @@ public class LazyCompletedLotterySixGameList implements List<CompletedLotterySix
 
     public void indexSort(Comparator<? super CompletedLotterySixGameIndex> comparator) {
         gameIndexes.sort(comparator);
+        indexesModified();
     }
 
 }
@@ -34,6 +34,7 @@ import com.loohp.lotterysix.game.objects.PlayerStatsKey;
 import com.loohp.lotterysix.game.objects.PlayerWinnings;
 import com.loohp.lotterysix.game.objects.PrizeCalculationMode;
 import com.loohp.lotterysix.game.objects.PrizeTier;
+import com.loohp.lotterysix.game.objects.PrizeTierWinners;
 import com.loohp.lotterysix.game.objects.WinningCombination;
 import com.loohp.lotterysix.game.objects.WinningNumbers;
 import com.loohp.lotterysix.game.objects.betnumbers.BetNumbers;
@@ -56,11 +57,18 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -69,8 +77,15 @@ public class PlayableLotterySixGame implements ILotterySixGame {
 
     private static final Map<Object, Map<String, Object>> LOCKS_AND_FLAGS = Collections.synchronizedMap(new WeakHashMap<>());
     private static final String DIRTY_FLAG = "dirty";
-
-    @SuppressWarnings({"unchecked", "SameParameterValue"})
+    private static final String PLAYER_BETS_INDEX = "playerBetsIndex";
+    private static final String TOTAL_BETS = "totalBets";
+    private static final String BETS_LOCK = "betsLock";
+    private static final String JOURNAL = "journal";
+    private static final String REVISION_LOG = "revisionLog";
+    private static final String BET_ADMISSION_LOCKS = "betAdmissionLocks";
+    private static final int BET_ADMISSION_STRIPES = 64;
+
+    @SuppressWarnings("unchecked")
     private static <T, V> V getSharedLockOrFlag(T owner, String key, Supplier<V> constructor) {
         return (V) LOCKS_AND_FLAGS.computeIfAbsent(owner, k -> new ConcurrentHashMap<>()).computeIfAbsent(key, k -> constructor.get());
     }
@@ -118,6 +133,80 @@ public class PlayableLotterySixGame implements ILotterySixGame {
         return getSharedLockOrFlag(this, DIRTY_FLAG, () -> new AtomicBoolean(true));
     }
 
+    private PlayerBetsIndex getPlayerBetsIndex() {
+        return getSharedLockOrFlag(this, PLAYER_BETS_INDEX, () -> new PlayerBetsIndex(bets.values()));
+    }
+
+    private LongAdder getTotalBetsCounter() {
+        return getSharedLockOrFlag(this, TOTAL_BETS, () -> {
+            LongAdder totalBets = new LongAdder();
+            for (PlayerBets bet : bets.values()) {
+                totalBets.add(bet.getBet());
+            }
+            return totalBets;
+        });
+    }
+
+    private Queue<CurrentGameJournal.Entry> getJournal() {
+        return getSharedLockOrFlag(this, JOURNAL, () -> new ConcurrentLinkedQueue<>());
+    }
+
+    public CurrentGameRevisionLog getRevisionLog() {
+        return getSharedLockOrFlag(this, REVISION_LOG, () -> new CurrentGameRevisionLog());
+    }
+
+    private void journal(CurrentGameJournal.Entry entry) {
+        getRevisionLog().record(entry);
+        if (instance != null) {
+            getJournal().add(entry);
+        }
+    }
+
+    public List<CurrentGameJournal.Entry> drainJournal() {
+        Queue<CurrentGameJournal.Entry> journal = getJournal();
+        List<CurrentGameJournal.Entry> entries = new ArrayList<>();
+        CurrentGameJournal.Entry entry;
+        while ((entry = journal.poll()) != null) {
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    public void applyJournalEntry(CurrentGameJournal.Entry entry) {
+        Lock lock = getBetsLock().writeLock();
+        lock.lock();
+        try {
+            PlayerBetsIndex playerBetsIndex = getPlayerBetsIndex();
+            LongAdder totalBets = getTotalBetsCounter();
+            PlayerBets previous = entry.isAdded() ? bets.put(entry.getBetId(), entry.getBet()) : bets.remove(entry.getBetId());
+            if (previous != null) {
+                playerBetsIndex.remove(previous);
+                totalBets.add(-previous.getBet());
+            }
+            if (entry.isAdded()) {
+                playerBetsIndex.add(entry.getBet());
+                totalBets.add(entry.getBet().getBet());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReadWriteLock getBetsLock() {
+        return getSharedLockOrFlag(this, BETS_LOCK, () -> new ReentrantReadWriteLock());
+    }
+
+    private Object getBetAdmissionLock(UUID player) {
+        Object[] locks = getSharedLockOrFlag(this, BET_ADMISSION_LOCKS, () -> {
+            Object[] array = new Object[BET_ADMISSION_STRIPES];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = new Object();
+            }
+            return array;
+        });
+        return locks[Math.floorMod(player.hashCode(), locks.length)];
+    }
+
     public String toJson(Gson gson, boolean updateSaveTime) {
         if (updateSaveTime) {
             lastSaved = System.currentTimeMillis();
@@ -125,6 +214,10 @@ public class PlayableLotterySixGame implements ILotterySixGame {
         return gson.toJson(this);
     }
 
+    public long getLastSaved() {
+        return lastSaved;
+    }
+
     public LotterySix getInstance() {
         return instance;
     }
@@ -155,6 +248,7 @@ public class PlayableLotterySixGame implements ILotterySixGame {
         if (!Objects.equals(this.specialName, specialName)) {
             this.specialName = specialName;
             getDirtyFlag().set(true);
+            getRevisionLog().bumpHeader();
         }
     }
 
@@ -168,6 +262,7 @@ public class PlayableLotterySixGame implements ILotterySixGame {
             this.scheduledDateTime = scheduledDateTime;
             this.gameNumber = gameNumber;
             getDirtyFlag().set(true);
+            getRevisionLog().bumpHeader();
         }
     }
 
@@ -192,6 +287,7 @@ public class PlayableLotterySixGame implements ILotterySixGame {
             this.numberStatistics.clear();
             this.numberStatistics.putAll(numberStatistics);
             getDirtyFlag().set(true);
+            getRevisionLog().bumpHeader();
         }
     }
 
@@ -207,6 +303,7 @@ public class PlayableLotterySixGame implements ILotterySixGame {
         if (this.carryOverFund != carryOverFund) {
             this.carryOverFund = carryOverFund;
             getDirtyFlag().set(true);
+            getRevisionLog().bumpHeader();
         }
     }
 
@@ -218,6 +315,7 @@ public class PlayableLotterySixGame implements ILotterySixGame {
         if (this.lowestTopPlacesPrize != lowestTopPlacesPrize) {
             this.lowestTopPlacesPrize = lowestTopPlacesPrize;
             getDirtyFlag().set(true);
+            getRevisionLog().bumpHeader();
         }
     }
 
@@ -231,31 +329,48 @@ public class PlayableLotterySixGame implements ILotterySixGame {
         if (this.valid) {
             this.valid = false;
             getDirtyFlag().set(true);
+            getRevisionLog().bumpHeader();
         }
     }
 
     public void cancelGame() {
-        this.valid = false;
+        Lock lock = getBetsLock().writeLock();
+        lock.lock();
+        try {
+            this.valid = false;
+            getRevisionLog().bumpHeader();
+            cancelGame0();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void cancelGame0() {
         if (instance != null && !instance.backendBungeecordMode) {
-            Map<UUID, List<PlayerBets>> multipleDrawBets = new HashMap<>();
             Map<LotteryPlayer, Boolean> affected = new HashMap<>();
             LotteryPlayerManager lotteryPlayerManager = instance.getLotteryPlayerManager();
-            for (PlayerBets bet : bets.values()) {
-                List<PlayerBets> playerBets = multipleDrawBets.computeIfAbsent(bet.getPlayer(), k -> new ArrayList<>());
-                if (bet.isMultipleDraw()) {
-                    playerBets.add(bet);
-                } else {
-                    LotteryPlayer lotteryPlayer = lotteryPlayerManager.getLotteryPlayer(bet.getPlayer());
-                    lotteryPlayer.updateStats(PlayerStatsKey.TOTAL_BETS_PLACED, long.class, i -> i - bet.getBet(), false);
-                    lotteryPlayer.updateStats(PlayerStatsKey.ACCOUNT_BALANCE, long.class, i -> i + bet.getBet(), false);
-                    lotteryPlayer.updateStats(PlayerStatsKey.NOTIFY_BALANCE_CHANGE, long.class, i -> i + bet.getBet(), false);
-                    affected.put(lotteryPlayer, true);
+            PlayerBetsIndex playerBetsIndex = getPlayerBetsIndex();
+            for (UUID player : playerBetsIndex.getPlayers()) {
+                LotteryPlayer lotteryPlayer = lotteryPlayerManager.getLotteryPlayer(player);
+                List<PlayerBets> multipleDrawBets = new ArrayList<>();
+                boolean refunded = false;
+                long refund = 0;
+                for (PlayerBets bet : playerBetsIndex.getPlayerBets(player)) {
+                    if (bet.isMultipleDraw()) {
+                        multipleDrawBets.add(bet);
+                    } else {
+                        refund += bet.getBet();
+                        refunded = true;
+                    }
                 }
-            }
-            for (Map.Entry<UUID, List<PlayerBets>> entry : multipleDrawBets.entrySet()) {
-                LotteryPlayer lotteryPlayer = instance.getLotteryPlayerManager().getLotteryPlayer(entry.getKey());
-                lotteryPlayer.setMultipleDrawPlayerBets(entry.getValue(), false);
-                affected.putIfAbsent(lotteryPlayer, false);
+                if (refunded) {
+                    long total = refund;
+                    lotteryPlayer.updateStats(PlayerStatsKey.TOTAL_BETS_PLACED, long.class, i -> i - total, false);
+                    lotteryPlayer.updateStats(PlayerStatsKey.ACCOUNT_BALANCE, long.class, i -> i + total, false);
+                    lotteryPlayer.updateStats(PlayerStatsKey.NOTIFY_BALANCE_CHANGE, long.class, i -> i + total, false);
+                }
+                lotteryPlayer.setMultipleDrawPlayerBets(multipleDrawBets, false);
+                affected.put(lotteryPlayer, refunded);
             }
             for (Map.Entry<LotteryPlayer, Boolean> entry : affected.entrySet()) {
                 LotteryPlayer lotteryPlayer = entry.getKey();
@@ -267,17 +382,27 @@ public class PlayableLotterySixGame implements ILotterySixGame {
         }
     }
 
-    public synchronized void invalidateBetsIf(Predicate<PlayerBets> predicate, boolean clearMultipleDraw) {
+    public void invalidateBetsIf(Predicate<PlayerBets> predicate, boolean clearMultipleDraw) {
         List<PlayerBets> removedBets = new ArrayList<>();
-        Iterator<PlayerBets> itr = bets.values().iterator();
-        while (itr.hasNext()) {
-            PlayerBets playerBet = itr.next();
-            if (predicate.test(playerBet)) {
-                itr.remove();
-                removedBets.add(playerBet);
+        Lock lock = getBetsLock().writeLock();
+        lock.lock();
+        try {
+            PlayerBetsIndex playerBetsIndex = getPlayerBetsIndex();
+            LongAdder totalBets = getTotalBetsCounter();
+            Iterator<PlayerBets> itr = bets.values().iterator();
+            while (itr.hasNext()) {
+                PlayerBets playerBet = itr.next();
+                if (predicate.test(playerBet)) {
+                    itr.remove();
+                    playerBetsIndex.remove(playerBet);
+                    totalBets.add(-playerBet.getBet());
+                    removedBets.add(playerBet);
+                    journal(CurrentGameJournal.Entry.removed(playerBet.getBetId()));
+                }
             }
+        } finally {
+            lock.unlock();
         }
-        getDirtyFlag().set(true);
         if (instance != null && !instance.backendBungeecordMode) {
             instance.requestSave(true);
             LotteryPlayerManager lotteryPlayerManager = instance.getLotteryPlayerManager();
@@ -318,11 +443,23 @@ public class PlayableLotterySixGame implements ILotterySixGame {
     }
 
     public List<PlayerBets> getPlayerBets(UUID player) {
-        return bets.values().stream().filter(each -> each.getPlayer().equals(player)).sorted().collect(Collectors.toList());
+        return getPlayerBetsIndex().getPlayerBets(player);
+    }
+
+    public long getPlayerTotalBets(UUID player) {
+        return getPlayerBetsIndex().getPlayerTotalBets(player);
+    }
+
+    public Set<UUID> getParticipants() {
+        return getPlayerBetsIndex().getPlayers();
+    }
+
+    public List<String> getBetPlayerNames() {
+        return getPlayerBetsIndex().getPlayerNames();
     }
 
     public long getTotalBets() {
-        return bets.values().stream().mapToLong(each -> each.getBet()).sum();
+        return getTotalBetsCounter().sum();
     }
 
     public AddBetResult addBet(String name, UUID player, long bet, BetUnitType unitType, BetNumbers chosenNumbers, int multipleDraw) {
@@ -342,14 +479,26 @@ public class PlayableLotterySixGame implements ILotterySixGame {
         return addBet(bet.getName(), bet.getPlayer(), Collections.singleton(bet));
     }
 
-    private synchronized AddBetResult addBet(String name, UUID player, Collection<PlayerBets> bets) {
+    private AddBetResult addBet(String name, UUID player, Collection<PlayerBets> bets) {
+        Lock lock = getBetsLock().readLock();
+        lock.lock();
+        try {
+            synchronized (getBetAdmissionLock(player)) {
+                return addBet0(name, player, bets);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private AddBetResult addBet0(String name, UUID player, Collection<PlayerBets> bets) {
         long price = bets.stream().mapToLong(each -> each.getBet() * each.getMultipleDraw()).sum();
         if (instance != null && instance.isGameLocked()) {
             return betResult0(player, price, bets, AddBetResult.GAME_LOCKED);
         }
         if (instance != null && !instance.backendBungeecordMode) {
             LotteryPlayer lotteryPlayer = instance.getLotteryPlayerManager().getLotteryPlayer(player);
-            long totalBets = getPlayerBets(player).stream().mapToLong(each -> each.getBet()).sum() + price;
+            long totalBets = getPlayerTotalBets(player) + price;
             long playerLimit = lotteryPlayer.getPreference(PlayerPreferenceKey.BET_LIMIT_PER_ROUND, long.class);
             if (playerLimit >= 0 && playerLimit < totalBets) {
                 return betResult0(player, price, bets, AddBetResult.LIMIT_SELF);
@@ -374,10 +523,18 @@ public class PlayableLotterySixGame implements ILotterySixGame {
             lotteryPlayer.updateStats(PlayerStatsKey.TOTAL_BETS_PLACED, long.class, i -> i + price, false);
             lotteryPlayer.save();
         }
+        PlayerBetsIndex playerBetsIndex = getPlayerBetsIndex();
+        LongAdder totalBets = getTotalBetsCounter();
         for (PlayerBets bet : bets) {
-            this.bets.put(bet.getBetId(), bet);
+            PlayerBets previous = this.bets.put(bet.getBetId(), bet);
+            if (previous != null) {
+                playerBetsIndex.remove(previous);
+                totalBets.add(-previous.getBet());
+            }
+            playerBetsIndex.add(bet);
+            totalBets.add(bet.getBet());
+            journal(CurrentGameJournal.Entry.added(bet));
         }
-        getDirtyFlag().set(true);
         if (instance != null) {
             instance.requestSave(true);
             if (!instance.backendBungeecordMode && instance.announcerBetPlacedAnnouncementEnabled) {
@@ -448,23 +605,35 @@ public class PlayableLotterySixGame implements ILotterySixGame {
         if (instance != null && instance.backendBungeecordMode) {
             throw new IllegalStateException("lottery cannot be run on backend server while on bungeecord mode");
         }
+        Lock lock = getBetsLock().writeLock();
+        lock.lock();
+        try {
+            return runLottery0(maxNumber, pricePerBet, maxTopPlacesPrize, taxPercentage, winningNumbers, prizeCalculationMode, carryOverMode);
+        } finally {
+            lock.unlock();
+        }
+    }
 
+    private CompletedLotterySixGame runLottery0(int maxNumber, long pricePerBet, long maxTopPlacesPrize, double taxPercentage, WinningNumbers winningNumbers, PrizeCalculationMode prizeCalculationMode, CarryOverMode carryOverMode) {
         Map<Integer, NumberStatistics> newNumberStats = new HashMap<>();
         for (int i = 1; i <= maxNumber; i++) {
             newNumberStats.put(i, getNumberStatistics(i).increment(winningNumbers.containsAnywhere(i)));
         }
 
-        Map<PrizeTier, List<Pair<PlayerBets, WinningCombination>>> tiers = new EnumMap<>(PrizeTier.class);
-        for (PrizeTier prizeTier : PrizeTier.values()) {
-            tiers.put(prizeTier, new ArrayList<>());
-        }
+        List<PlayerBets> betsList = new ArrayList<>(bets.values());
+        Set<UUID> participants = new HashSet<>(getParticipants());
 
-        Set<UUID> participants = new HashSet<>();
-        for (PlayerBets playerBets : bets.values()) {
-            participants.add(playerBets.getPlayer());
-            for (Iterator<Pair<PrizeTier, WinningCombination>> itr = winningNumbers.checkWinning(playerBets.getChosenNumbers()).iterator(); itr.hasNext();) {
-                Pair<PrizeTier, WinningCombination> prizeTiersPair = itr.next();
-                tiers.get(prizeTiersPair.getFirst()).add(Pair.of(playerBets, prizeTiersPair.getSecond()));
+        WinningTiersTask winningTiersTask = new WinningTiersTask(winningNumbers, betsList);
+        int parallelism = instance == null ? 1 : instance.settlementParallelism;
+        Map<PrizeTier, PrizeTierWinners> tiers;
+        if (parallelism == 1 || betsList.size() <= WinningTiersTask.CHUNK_SIZE) {
+            tiers = winningTiersTask.computeDirectly();
+        } else {
+            ForkJoinPool pool = parallelism <= 0 ? new ForkJoinPool() : new ForkJoinPool(parallelism);
+            try {
+                tiers = pool.invoke(winningTiersTask);
+            } finally {
+                pool.shutdown();
             }
         }
         if (instance != null) {
@@ -494,7 +663,7 @@ public class PlayableLotterySixGame implements ILotterySixGame {
         return completed;
     }
 
-    private synchronized CompletedLotterySixGame completeWithUnrealisticPrizeCalculation(long pricePerBet, long maxTopPlacesPrize, double taxPercentage, CarryOverMode carryOverMode, Map<PrizeTier, List<Pair<PlayerBets, WinningCombination>>> tiers, WinningNumbers winningNumbers, Map<Integer, NumberStatistics> newNumberStats) {
+    private synchronized CompletedLotterySixGame completeWithUnrealisticPrizeCalculation(long pricePerBet, long maxTopPlacesPrize, double taxPercentage, CarryOverMode carryOverMode, Map<PrizeTier, PrizeTierWinners> tiers, WinningNumbers winningNumbers, Map<Integer, NumberStatistics> newNumberStats) {
         long totalBetsFund = getTotalBets();
         long totalPrize;
         switch (carryOverMode) {
@@ -565,8 +734,8 @@ public class PlayableLotterySixGame implements ILotterySixGame {
         boolean secondPlaceEmpty = tiers.get(PrizeTier.SECOND).isEmpty();
         boolean firstPlaceEmpty = tiers.get(PrizeTier.FIRST).isEmpty();
 
-        double thirdTierWeightedWinners = Math.max(1, tiers.get(PrizeTier.THIRD).stream().mapToDouble(each -> each.getFirst().getType().getUnit()).sum());
-        double secondTierWeightedWinners = Math.max(1, tiers.get(PrizeTier.SECOND).stream().mapToDouble(each -> each.getFirst().getType().getUnit()).sum()) * 2.6;
+        double thirdTierWeightedWinners = Math.max(1, tiers.get(PrizeTier.THIRD).getWeightedWinners());
+        double secondTierWeightedWinners = Math.max(1, tiers.get(PrizeTier.SECOND).getWeightedWinners()) * 2.6;
         double totalWeightedWinners = thirdTierWeightedWinners + secondTierWeightedWinners;
 
         double carryOverPortion = 0;
@@ -589,7 +758,7 @@ public class PlayableLotterySixGame implements ILotterySixGame {
 
         long thirdTierPrizeTotal = (long) Math.floor(totalRemaining * thirdPortion);
         if (!thirdPlaceEmpty) {
-            long thirdTierPrize = (long) Math.floor(thirdTierPrizeTotal / Math.max(1.0, tiers.get(PrizeTier.THIRD).stream().mapToDouble(each -> each.getFirst().getType().getUnit()).sum()));
+            long thirdTierPrize = (long) Math.floor(thirdTierPrizeTotal / Math.max(1.0, tiers.get(PrizeTier.THIRD).getWeightedWinners()));
             prizeForTier.put(PrizeTier.THIRD, thirdTierPrize);
             long thirdTierTotal = 0;
             for (Pair<PlayerBets, WinningCombination> pair : tiers.get(PrizeTier.THIRD)) {
@@ -615,7 +784,7 @@ public class PlayableLotterySixGame implements ILotterySixGame {
                     secondTierPrizeTotal += (long) (thirdTierPrizeTotal * 0.25);
                 }
             }
-            long secondTierPrize = (long) Math.floor(secondTierPrizeTotal / Math.max(1.0, tiers.get(PrizeTier.SECOND).stream().mapToDouble(each -> each.getFirst().getType().getUnit()).sum()));
+            long secondTierPrize = (long) Math.floor(secondTierPrizeTotal / Math.max(1.0, tiers.get(PrizeTier.SECOND).getWeightedWinners()));
             prizeForTier.put(PrizeTier.SECOND, secondTierPrize);
             long secondTierTotal = 0;
             for (Pair<PlayerBets, WinningCombination> pair : tiers.get(PrizeTier.SECOND)) {
@@ -641,7 +810,7 @@ public class PlayableLotterySixGame implements ILotterySixGame {
                     firstTierPrizeTotal += (long) (thirdTierPrizeTotal * 0.75);
                 }
             }
-            long firstTierPrize = (long) Math.floor(firstTierPrizeTotal / Math.max(1.0, tiers.get(PrizeTier.FIRST).stream().mapToDouble(each -> each.getFirst().getType().getUnit()).sum()));
+            long firstTierPrize = (long) Math.floor(firstTierPrizeTotal / Math.max(1.0, tiers.get(PrizeTier.FIRST).getWeightedWinners()));
             prizeForTier.put(PrizeTier.FIRST, firstTierPrize);
             long firstTierTotal = 0;
             for (Pair<PlayerBets, WinningCombination> pair : tiers.get(PrizeTier.FIRST)) {
@@ -705,7 +874,7 @@ public class PlayableLotterySixGame implements ILotterySixGame {
                 if (v <= 0) {
                     return v;
                 }
-                return Math.max(v, instance.pricePerBet * k.getFixedPrizeMultiplier());
+                return Math.max(v, (instance == null ? pricePerBet : instance.pricePerBet) * k.getFixedPrizeMultiplier());
             });
             for (int u = 0; u < winnings.size(); u++) {
                 PlayerWinnings playerWinnings = winnings.get(u);
@@ -735,7 +904,7 @@ public class PlayableLotterySixGame implements ILotterySixGame {
 
     }
 
-    private synchronized CompletedLotterySixGame completeWithHkjcPrizeCalculation(long pricePerBet, long maxTopPlacesPrize, double taxPercentage, CarryOverMode carryOverMode, Map<PrizeTier, List<Pair<PlayerBets, WinningCombination>>> tiers, WinningNumbers winningNumbers, Map<Integer, NumberStatistics> newNumberStats) {
+    private synchronized CompletedLotterySixGame completeWithHkjcPrizeCalculation(long pricePerBet, long maxTopPlacesPrize, double taxPercentage, CarryOverMode carryOverMode, Map<PrizeTier, PrizeTierWinners> tiers, WinningNumbers winningNumbers, Map<Integer, NumberStatistics> newNumberStats) {
         PrizeTier[] prizeTiers = PrizeTier.values();
         long totalBetsFund = getTotalBets();
         long totalFund = (long) Math.floor(totalBetsFund * (1.0 - taxPercentage));
@@ -745,10 +914,10 @@ public class PlayableLotterySixGame implements ILotterySixGame {
 
         Map<PrizeTier, Long> portionsFourthToSeventh = new EnumMap<>(PrizeTier.class);
         Map<PrizeTier, Double> unitsFourthToSeventh = new EnumMap<>(PrizeTier.class);
-        for (Map.Entry<PrizeTier, List<Pair<PlayerBets, WinningCombination>>> entry : tiers.entrySet()) {
+        for (Map.Entry<PrizeTier, PrizeTierWinners> entry : tiers.entrySet()) {
             PrizeTier prizeTier = entry.getKey();
             if (!prizeTier.isVariableTier() && !entry.getValue().isEmpty()) {
-                double unit = entry.getValue().stream().mapToDouble(each -> each.getFirst().getType().getUnit()).sum();
+                double unit = entry.getValue().getWeightedWinners();
                 unitsFourthToSeventh.put(prizeTier, unit);
                 long portion = Math.round(BigDecimal.valueOf(unit).multiply(BigDecimal.valueOf(pricePerBet)).multiply(BigDecimal.valueOf(prizeTier.getFixedPrizeMultiplier())).doubleValue());
                 totalFourthToSeventhFundRequired += portion;
@@ -814,8 +983,8 @@ public class PlayableLotterySixGame implements ILotterySixGame {
         boolean secondPlaceEmpty = tiers.get(PrizeTier.SECOND).isEmpty();
         boolean firstPlaceEmpty = tiers.get(PrizeTier.FIRST).isEmpty();
 
-        double thirdTierWeightedWinners = Math.max(1, tiers.get(PrizeTier.THIRD).stream().mapToDouble(each -> each.getFirst().getType().getUnit()).sum());
-        double secondTierWeightedWinners = Math.max(1, tiers.get(PrizeTier.SECOND).stream().mapToDouble(each -> each.getFirst().getType().getUnit()).sum()) * 2.6;
+        double thirdTierWeightedWinners = Math.max(1, tiers.get(PrizeTier.THIRD).getWeightedWinners());
+        double secondTierWeightedWinners = Math.max(1, tiers.get(PrizeTier.SECOND).getWeightedWinners()) * 2.6;
         double totalWeightedWinners = thirdTierWeightedWinners + secondTierWeightedWinners;
 
         double carryOverPortion = 0;
@@ -838,7 +1007,7 @@ public class PlayableLotterySixGame implements ILotterySixGame {
         
         long thirdTierPrizeTotal = (long) Math.floor(totalRemaining * thirdPortion);
         if (!thirdPlaceEmpty) {
-            long thirdTierPrize = (long) Math.floor(thirdTierPrizeTotal / Math.max(1.0, tiers.get(PrizeTier.THIRD).stream().mapToDouble(each -> each.getFirst().getType().getUnit()).sum()));
+            long thirdTierPrize = (long) Math.floor(thirdTierPrizeTotal / Math.max(1.0, tiers.get(PrizeTier.THIRD).getWeightedWinners()));
             if (thirdTierPrize < lowestThirdTierPrize) {
                 carryOverRemaining -= (lowestThirdTierPrize - thirdTierPrize);
                 thirdTierPrize = lowestThirdTierPrize;
@@ -872,7 +1041,7 @@ public class PlayableLotterySixGame implements ILotterySixGame {
                     secondTierPrizeTotal += (long) (thirdTierPrizeTotal * 0.25);
                 }
             }
-            long secondTierPrize = (long) Math.floor(secondTierPrizeTotal / Math.max(1.0, tiers.get(PrizeTier.SECOND).stream().mapToDouble(each -> each.getFirst().getType().getUnit()).sum()));
+            long secondTierPrize = (long) Math.floor(secondTierPrizeTotal / Math.max(1.0, tiers.get(PrizeTier.SECOND).getWeightedWinners()));
             if (secondTierPrize < lowestSecondTierPrize) {
                 carryOverRemaining -= (lowestSecondTierPrize - secondTierPrize);
                 secondTierPrize = lowestSecondTierPrize;
@@ -909,7 +1078,7 @@ public class PlayableLotterySixGame implements ILotterySixGame {
                     firstTierPrizeTotal += (long) (thirdTierPrizeTotal * 0.75);
                 }
             }
-            long firstTierPrize = (long) Math.floor(firstTierPrizeTotal / Math.max(1.0, tiers.get(PrizeTier.FIRST).stream().mapToDouble(each -> each.getFirst().getType().getUnit()).sum()));
+            long firstTierPrize = (long) Math.floor(firstTierPrizeTotal / Math.max(1.0, tiers.get(PrizeTier.FIRST).getWeightedWinners()));
             prizeForTier.put(PrizeTier.FIRST, firstTierPrize);
             long firstTierTotal = 0;
             for (Pair<PlayerBets, WinningCombination> pair : tiers.get(PrizeTier.FIRST)) {
@@ -985,9 +1154,9 @@ public class PlayableLotterySixGame implements ILotterySixGame {
                     return v;
                 }
                 if (k.equals(PrizeTier.FIRST)) {
-                    return Math.max(v, instance.lowestTopPlacesPrize);
+                    return Math.max(v, instance == null ? lowestTopPlacesPrize : instance.lowestTopPlacesPrize);
                 }
-                return Math.max(v, instance.pricePerBet * k.getFixedPrizeMultiplier());
+                return Math.max(v, (instance == null ? pricePerBet : instance.pricePerBet) * k.getFixedPrizeMultiplier());
             });
             for (int u = 0; u < winnings.size(); u++) {
                 PlayerWinnings playerWinnings = winnings.get(u);
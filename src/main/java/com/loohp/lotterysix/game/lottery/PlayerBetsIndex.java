@@ -0,0 +1,145 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.lottery;
+
+import com.loohp.lotterysix.game.objects.Pair;
+import com.loohp.lotterysix.game.objects.PlayerBets;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PlayerBetsIndex {
+
+    private final ConcurrentHashMap<UUID, Entry> players;
+
+    public PlayerBetsIndex(Collection<PlayerBets> bets) {
+        this.players = new ConcurrentHashMap<>();
+        for (PlayerBets bet : bets) {
+            add(bet);
+        }
+    }
+
+    public void add(PlayerBets bet) {
+        players.compute(bet.getPlayer(), (k, v) -> {
+            if (v == null) {
+                v = new Entry();
+            }
+            v.add(bet);
+            return v;
+        });
+    }
+
+    public void remove(PlayerBets bet) {
+        players.computeIfPresent(bet.getPlayer(), (k, v) -> v.remove(bet) && v.isEmpty() ? null : v);
+    }
+
+    public void clear() {
+        players.clear();
+    }
+
+    public Set<UUID> getPlayers() {
+        return Collections.unmodifiableSet(players.keySet());
+    }
+
+    public List<PlayerBets> getPlayerBets(UUID player) {
+        Entry entry = players.get(player);
+        return entry == null ? Collections.emptyList() : entry.getBets();
+    }
+
+    public long getPlayerTotalBets(UUID player) {
+        Entry entry = players.get(player);
+        return entry == null ? 0 : entry.getTotalBets();
+    }
+
+    public List<String> getPlayerNames() {
+        List<Pair<PlayerBets, Set<String>>> firstBets = new ArrayList<>(players.size());
+        for (Entry entry : players.values()) {
+            Pair<PlayerBets, Set<String>> firstBet = entry.getFirstBetAndNames();
+            if (firstBet != null) {
+                firstBets.add(firstBet);
+            }
+        }
+        firstBets.sort(Comparator.comparing(each -> each.getFirst(), PlayerBets.COMPARATOR));
+        Set<String> names = new LinkedHashSet<>();
+        for (Pair<PlayerBets, Set<String>> firstBet : firstBets) {
+            names.add(firstBet.getFirst().getName());
+            names.addAll(firstBet.getSecond());
+        }
+        return new ArrayList<>(names);
+    }
+
+    private static class Entry {
+
+        private final TreeSet<PlayerBets> bets;
+        private final Map<String, Integer> names;
+        private long totalBets;
+
+        private Entry() {
+            this.bets = new TreeSet<>(PlayerBets.COMPARATOR);
+            this.names = new LinkedHashMap<>();
+            this.totalBets = 0;
+        }
+
+        private synchronized void add(PlayerBets bet) {
+            if (bets.add(bet)) {
+                totalBets += bet.getBet();
+                names.merge(bet.getName(), 1, (a, b) -> a + b);
+            }
+        }
+
+        private synchronized boolean remove(PlayerBets bet) {
+            if (bets.remove(bet)) {
+                totalBets -= bet.getBet();
+                names.computeIfPresent(bet.getName(), (k, v) -> v <= 1 ? null : v - 1);
+                return true;
+            }
+            return false;
+        }
+
+        private synchronized Pair<PlayerBets, Set<String>> getFirstBetAndNames() {
+            return bets.isEmpty() ? null : Pair.of(bets.first(), new LinkedHashSet<>(names.keySet()));
+        }
+
+        private synchronized boolean isEmpty() {
+            return bets.isEmpty();
+        }
+
+        private synchronized List<PlayerBets> getBets() {
+            return new ArrayList<>(bets);
+        }
+
+        private synchronized long getTotalBets() {
+            return totalBets;
+        }
+
+    }
+
+}
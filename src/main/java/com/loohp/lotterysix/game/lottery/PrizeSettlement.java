@@ -0,0 +1,182 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.lottery;
+
+import com.loohp.lotterysix.game.LotterySix;
+import com.loohp.lotterysix.game.objects.PlayerBets;
+import com.loohp.lotterysix.game.objects.PlayerStatsKey;
+import com.loohp.lotterysix.game.objects.PlayerWinnings;
+import com.loohp.lotterysix.game.objects.PrizeTier;
+import com.loohp.lotterysix.game.player.LotteryPlayer;
+import com.loohp.lotterysix.game.player.LotteryPlayerManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+
+public class PrizeSettlement {
+
+    public static final int BATCH_SIZE = 256;
+    public static final long PROGRESS_INTERVAL = 1000;
+
+    private final LotterySix instance;
+    private final GameNumber gameNumber;
+    private final Map<UUID, PlayerSettlement> settlements;
+
+    public PrizeSettlement(LotterySix instance, GameNumber gameNumber, Collection<PlayerWinnings> winners, Collection<PlayerBets> bets, long lotteriesFunds) {
+        this.instance = instance;
+        this.gameNumber = gameNumber;
+        this.settlements = new LinkedHashMap<>();
+        for (PlayerWinnings winning : winners) {
+            PlayerSettlement settlement = getSettlement(winning.getPlayer());
+            settlement.winnings += winning.getWinnings();
+            settlement.highestTier = settlement.highestTier == null || winning.getTier().ordinal() < settlement.highestTier.ordinal() ? winning.getTier() : settlement.highestTier;
+        }
+        for (PlayerBets bet : bets) {
+            PlayerSettlement settlement = getSettlement(bet.getPlayer());
+            if (settlement.multipleDrawBets == null) {
+                settlement.multipleDrawBets = new ArrayList<>();
+            }
+            if (bet.isMultipleDraw()) {
+                PlayerBets decremented = bet.decrementDrawsRemaining();
+                if (decremented.getDrawsRemaining() > 0) {
+                    settlement.multipleDrawBets.add(decremented);
+                }
+            }
+        }
+        if (instance.lotteriesFundAccount != null) {
+            getSettlement(instance.lotteriesFundAccount).funds += lotteriesFunds;
+        }
+    }
+
+    private PlayerSettlement getSettlement(UUID player) {
+        return settlements.computeIfAbsent(player, k -> new PlayerSettlement());
+    }
+
+    public int size() {
+        return settlements.size();
+    }
+
+    public void run() {
+        long start = System.currentTimeMillis();
+        Map<UUID, LotteryPlayer> lotteryPlayers = preload();
+        long loaded = System.currentTimeMillis();
+        for (Map.Entry<UUID, PlayerSettlement> entry : settlements.entrySet()) {
+            apply(lotteryPlayers.get(entry.getKey()), entry.getValue());
+        }
+        long applied = System.currentTimeMillis();
+        instance.getLotteryPlayerManager().saveLotteryPlayers(lotteryPlayers.values());
+        long committed = System.currentTimeMillis();
+        for (Map.Entry<UUID, PlayerSettlement> entry : settlements.entrySet()) {
+            if (entry.getValue().isBalanceChanged()) {
+                instance.notifyBalanceChangeConsumer(entry.getKey());
+            }
+        }
+        instance.getConsoleMessageConsumer().accept("Settled " + settlements.size() + " players for game " + gameNumber + " (load " + (loaded - start) + "ms, apply " + (applied - loaded) + "ms, commit " + (committed - applied) + "ms)");
+    }
+
+    private Map<UUID, LotteryPlayer> preload() {
+        LotteryPlayerManager lotteryPlayerManager = instance.getLotteryPlayerManager();
+        List<UUID> players = new ArrayList<>(settlements.keySet());
+        Map<UUID, LotteryPlayer> lotteryPlayers = new HashMap<>(players.size());
+        if (players.size() <= BATCH_SIZE) {
+            lotteryPlayers.putAll(lotteryPlayerManager.loadLotteryPlayers(players));
+            return lotteryPlayers;
+        }
+        int parallelism = instance.settlementParallelism <= 0 ? Runtime.getRuntime().availableProcessors() : instance.settlementParallelism;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "LotterySix Prize Settlement Loader - " + gameNumber);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Map<UUID, LotteryPlayer>>> batches = new ArrayList<>();
+            for (int i = 0; i < players.size(); i += BATCH_SIZE) {
+                List<UUID> batch = players.subList(i, Math.min(players.size(), i + BATCH_SIZE));
+                batches.add(executor.submit(() -> lotteryPlayerManager.loadLotteryPlayers(batch)));
+            }
+            long lastProgress = System.currentTimeMillis();
+            for (Future<Map<UUID, LotteryPlayer>> batch : batches) {
+                try {
+                    lotteryPlayers.putAll(batch.get());
+                } catch (InterruptedException | ExecutionException e) {
+                    e.printStackTrace();
+                }
+                long now = System.currentTimeMillis();
+                if (now - lastProgress >= PROGRESS_INTERVAL) {
+                    lastProgress = now;
+                    instance.getConsoleMessageConsumer().accept("Loading players for prize settlement... (" + lotteryPlayers.size() + "/" + players.size() + ")");
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        for (UUID player : players) {
+            if (!lotteryPlayers.containsKey(player)) {
+                lotteryPlayers.put(player, lotteryPlayerManager.getLotteryPlayer(player));
+            }
+        }
+        return lotteryPlayers;
+    }
+
+    private void apply(LotteryPlayer lotteryPlayer, PlayerSettlement settlement) {
+        if (settlement.multipleDrawBets != null) {
+            lotteryPlayer.setMultipleDrawPlayerBets(settlement.multipleDrawBets, false);
+        }
+        Map<PlayerStatsKey, UnaryOperator<?>> updateFunctions = new EnumMap<>(PlayerStatsKey.class);
+        if (settlement.isBalanceChanged()) {
+            long total = settlement.winnings + settlement.funds;
+            updateFunctions.put(PlayerStatsKey.ACCOUNT_BALANCE, (UnaryOperator<Long>) i -> i + total);
+            updateFunctions.put(PlayerStatsKey.NOTIFY_BALANCE_CHANGE, (UnaryOperator<Long>) i -> i + total);
+        }
+        if (settlement.highestTier != null) {
+            long winnings = settlement.winnings;
+            PrizeTier prizeTier = settlement.highestTier;
+            updateFunctions.put(PlayerStatsKey.TOTAL_WINNINGS, (UnaryOperator<Long>) i -> i + winnings);
+            updateFunctions.put(PlayerStatsKey.HIGHEST_WON_TIER, (UnaryOperator<PrizeTier>) t -> t == null || prizeTier.ordinal() < t.ordinal() ? prizeTier : t);
+        }
+        lotteryPlayer.updateStats(updateFunctions, false);
+    }
+
+    private static class PlayerSettlement {
+
+        private long winnings;
+        private long funds;
+        private PrizeTier highestTier;
+        private List<PlayerBets> multipleDrawBets;
+
+        private boolean isBalanceChanged() {
+            return highestTier != null || funds != 0;
+        }
+
+    }
+
+}
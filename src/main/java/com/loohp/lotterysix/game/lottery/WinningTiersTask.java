@@ -0,0 +1,86 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.lottery;
+
+import com.loohp.lotterysix.game.objects.PlayerBets;
+import com.loohp.lotterysix.game.objects.PrizeTier;
+import com.loohp.lotterysix.game.objects.PrizeTierWinners;
+import com.loohp.lotterysix.game.objects.WinningNumbers;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveTask;
+
+public class WinningTiersTask extends RecursiveTask<Map<PrizeTier, PrizeTierWinners>> {
+
+    public static final int CHUNK_SIZE = 2048;
+
+    private final WinningNumbers winningNumbers;
+    private final List<PlayerBets> bets;
+    private final int from;
+    private final int to;
+
+    public WinningTiersTask(WinningNumbers winningNumbers, List<PlayerBets> bets) {
+        this(winningNumbers, bets, 0, bets.size());
+    }
+
+    private WinningTiersTask(WinningNumbers winningNumbers, List<PlayerBets> bets, int from, int to) {
+        this.winningNumbers = winningNumbers;
+        this.bets = bets;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected Map<PrizeTier, PrizeTierWinners> compute() {
+        if (to - from <= CHUNK_SIZE) {
+            return computeDirectly();
+        }
+        int middle = (from + to) >>> 1;
+        WinningTiersTask left = new WinningTiersTask(winningNumbers, bets, from, middle);
+        WinningTiersTask right = new WinningTiersTask(winningNumbers, bets, middle, to);
+        right.fork();
+        Map<PrizeTier, PrizeTierWinners> result = left.compute();
+        Map<PrizeTier, PrizeTierWinners> rightResult = right.join();
+        for (Map.Entry<PrizeTier, PrizeTierWinners> entry : result.entrySet()) {
+            entry.getValue().addAll(rightResult.get(entry.getKey()));
+        }
+        return result;
+    }
+
+    public Map<PrizeTier, PrizeTierWinners> computeDirectly() {
+        PrizeTier[] prizeTiers = PrizeTier.values();
+        Map<PrizeTier, PrizeTierWinners> tiers = new EnumMap<>(PrizeTier.class);
+        for (PrizeTier prizeTier : prizeTiers) {
+            tiers.put(prizeTier, new PrizeTierWinners(prizeTier, winningNumbers));
+        }
+        for (int i = from; i < to; i++) {
+            PlayerBets playerBets = bets.get(i);
+            long[] counts = winningNumbers.countWinningByTier(playerBets.getChosenNumbers());
+            for (int u = 0; u < counts.length; u++) {
+                tiers.get(prizeTiers[u]).add(playerBets, counts[u]);
+            }
+        }
+        return tiers;
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.objects;
+
+public enum ArchiveFormat {
+
+    BINARY("lsg", true),
+    JSON("json.gz", true),
+    MAPPED("lsa", false);
+
+    public static final ArchiveFormat CONFIG_DEFAULT = BINARY;
+
+    public static ArchiveFormat fromName(String name) {
+        for (ArchiveFormat format : ArchiveFormat.values()) {
+            if (format.name().equals(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    private final String fileExtension;
+    private final boolean perGame;
+
+    ArchiveFormat(String fileExtension, boolean perGame) {
+        this.fileExtension = fileExtension;
+        this.perGame = perGame;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public boolean isPerGame() {
+        return perGame;
+    }
+
+}
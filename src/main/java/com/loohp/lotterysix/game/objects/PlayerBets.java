@@ -41,13 +41,17 @@ public class PlayerBets implements Comparable<PlayerBets> {
     private final int multipleDraw;
     private final int drawsRemaining;
 
-    private PlayerBets(String name, UUID player, long timePlaced, long nanoTime, long bet, BetUnitType type, BetNumbers chosenNumbers, int multipleDraw, int drawsRemaining) {
+    public static PlayerBets restore(UUID betId, String name, UUID player, long timePlaced, long nanoTime, long bet, BetUnitType type, BetNumbers chosenNumbers, int multipleDraw, int drawsRemaining) {
+        return new PlayerBets(betId, name, player, timePlaced, nanoTime, bet, type, chosenNumbers, multipleDraw, drawsRemaining);
+    }
+
+    private PlayerBets(UUID betId, String name, UUID player, long timePlaced, long nanoTime, long bet, BetUnitType type, BetNumbers chosenNumbers, int multipleDraw, int drawsRemaining) {
         this.name = name;
         this.timePlaced = timePlaced;
         this.nanoTime = nanoTime;
         this.multipleDraw = multipleDraw;
         this.drawsRemaining = drawsRemaining;
-        this.betId = UUID.randomUUID();
+        this.betId = betId;
         this.player = player;
         this.bet = bet;
         this.type = type;
@@ -55,7 +59,7 @@ public class PlayerBets implements Comparable<PlayerBets> {
     }
 
     public PlayerBets(String name, UUID player, long timePlaced, long nanoTime, long bet, BetUnitType type, BetNumbers chosenNumbers, int multipleDraw) {
-        this(name, player, timePlaced, nanoTime, bet, type, chosenNumbers, multipleDraw, multipleDraw);
+        this(UUID.randomUUID(), name, player, timePlaced, nanoTime, bet, type, chosenNumbers, multipleDraw, multipleDraw);
     }
 
     public UUID getBetId() {
@@ -106,7 +110,7 @@ public class PlayerBets implements Comparable<PlayerBets> {
         if (isMultipleDraw()) {
             int decremented = Math.max(0, drawsRemaining - 1);
             if (decremented < drawsRemaining) {
-                return new PlayerBets(name, player, timePlaced, nanoTime, bet, type, chosenNumbers, multipleDraw, decremented);
+                return new PlayerBets(UUID.randomUUID(), name, player, timePlaced, nanoTime, bet, type, chosenNumbers, multipleDraw, decremented);
             }
         }
         return this;
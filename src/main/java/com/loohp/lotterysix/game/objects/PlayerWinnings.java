@@ -45,7 +45,7 @@ public class PlayerWinnings {
         this.winnings = winnings;
     }
 
-    private PlayerWinnings(String name, UUID player, PrizeTier tier, UUID winningBetId, WinningCombination winningCombination, long winnings) {
+    public PlayerWinnings(String name, UUID player, PrizeTier tier, UUID winningBetId, WinningCombination winningCombination, long winnings) {
         this.name = name;
         this.player = player;
         this.tier = tier;
@@ -35,6 +35,27 @@ public enum PrizeTier {
     SIXTH("6th", new WinningCriteria(NUMBERS_PER_BET - 3, true), 32, 8),
     SEVENTH("7th", new WinningCriteria(NUMBERS_PER_BET - 3, false), 4, 1);
 
+    private static final PrizeTier[] TIERS_BY_MATCHES;
+
+    static {
+        PrizeTier[] prizeTiers = values();
+        TIERS_BY_MATCHES = new PrizeTier[(NUMBERS_PER_BET + 1) * 2];
+        for (int matches = 0; matches <= NUMBERS_PER_BET; matches++) {
+            for (int special = 0; special <= 1; special++) {
+                for (PrizeTier prizeTier : prizeTiers) {
+                    if (prizeTier.getWinningCriteria().satisfies(matches, special == 1)) {
+                        TIERS_BY_MATCHES[matches * 2 + special] = prizeTier;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    public static PrizeTier fromMatches(int matches, boolean matchedSpecial) {
+        return TIERS_BY_MATCHES[Math.min(matches, NUMBERS_PER_BET) * 2 + (matchedSpecial ? 1 : 0)];
+    }
+
     private final String shortHand;
     private final WinningCriteria winningCriteria;
     private int fixedPrizeMultiplier;
@@ -0,0 +1,119 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.objects;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class PrizeTierWinners implements Iterable<Pair<PlayerBets, WinningCombination>> {
+
+    private final PrizeTier prizeTier;
+    private final WinningNumbers winningNumbers;
+    private final List<PlayerBets> bets;
+    private final List<Long> counts;
+    private long totalCount;
+    private double weightedWinners;
+
+    public PrizeTierWinners(PrizeTier prizeTier, WinningNumbers winningNumbers) {
+        this.prizeTier = prizeTier;
+        this.winningNumbers = winningNumbers;
+        this.bets = new ArrayList<>();
+        this.counts = new ArrayList<>();
+        this.totalCount = 0;
+        this.weightedWinners = 0;
+    }
+
+    public PrizeTier getPrizeTier() {
+        return prizeTier;
+    }
+
+    public void add(PlayerBets playerBets, long count) {
+        if (count <= 0) {
+            return;
+        }
+        bets.add(playerBets);
+        counts.add(count);
+        totalCount += count;
+        weightedWinners += playerBets.getType().getUnit() * count;
+    }
+
+    public void addAll(PrizeTierWinners other) {
+        if (other.prizeTier != prizeTier) {
+            throw new IllegalArgumentException("Cannot merge winners of " + other.prizeTier + " into " + prizeTier);
+        }
+        for (int i = 0; i < other.bets.size(); i++) {
+            add(other.bets.get(i), other.counts.get(i));
+        }
+    }
+
+    public boolean isEmpty() {
+        return totalCount == 0;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public double getWeightedWinners() {
+        return weightedWinners;
+    }
+
+    public List<PlayerBets> getBets() {
+        return Collections.unmodifiableList(bets);
+    }
+
+    public long getCount(int index) {
+        return counts.get(index);
+    }
+
+    @Override
+    public Iterator<Pair<PlayerBets, WinningCombination>> iterator() {
+        return new Iterator<Pair<PlayerBets, WinningCombination>>() {
+            private int index = 0;
+            private Iterator<WinningCombination> current = Collections.emptyIterator();
+            private PlayerBets currentBets;
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext()) {
+                    if (index >= bets.size()) {
+                        return false;
+                    }
+                    currentBets = bets.get(index++);
+                    current = winningNumbers.winningCombinations(currentBets.getChosenNumbers(), prizeTier).iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public Pair<PlayerBets, WinningCombination> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return Pair.of(currentBets, current.next());
+            }
+        };
+    }
+
+}
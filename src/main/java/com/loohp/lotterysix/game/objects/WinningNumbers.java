@@ -22,7 +22,9 @@ package com.loohp.lotterysix.game.objects;
 
 import com.loohp.lotterysix.game.LotteryRegistry;
 import com.loohp.lotterysix.game.objects.betnumbers.BetNumbers;
+import com.loohp.lotterysix.utils.BitmaskUtils;
 import com.loohp.lotterysix.utils.ChatColorUtils;
+import com.loohp.lotterysix.utils.MathUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -32,6 +34,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -77,6 +81,8 @@ public class WinningNumbers implements FormattedString {
     private final List<Integer> numbers;
     private final int specialNumber;
 
+    private transient volatile long numbersBitmask;
+
     public WinningNumbers(Collection<Integer> numbers, int specialNumber) {
         this.numbers = Collections.unmodifiableList(new ArrayList<>(numbers));
         this.specialNumber = specialNumber;
@@ -107,7 +113,151 @@ public class WinningNumbers implements FormattedString {
         return specialNumber;
     }
 
+    public boolean isBitmaskRepresentable() {
+        return BitmaskUtils.isRepresentable(numbers) && BitmaskUtils.isRepresentable(specialNumber);
+    }
+
+    public long getNumbersBitmask() {
+        long mask = numbersBitmask;
+        if (mask == 0) {
+            numbersBitmask = mask = BitmaskUtils.toBitmask(numbers);
+        }
+        return mask;
+    }
+
+    public long getSpecialNumberBitmask() {
+        return BitmaskUtils.bit(specialNumber);
+    }
+
     public Stream<Pair<PrizeTier, WinningCombination>> checkWinning(BetNumbers betNumbers) {
+        if (!isBitmaskRepresentable() || !betNumbers.isBitmaskRepresentable()) {
+            return checkWinningByCombinations(betNumbers);
+        }
+        List<Pair<PrizeTier, WinningCombination>> winnings = new ArrayList<>();
+        checkWinningBitmask(betNumbers, (prizeTier, mask) -> winnings.add(Pair.of(prizeTier, new WinningCombination(BitmaskUtils.toNumbers(mask)))));
+        return winnings.stream();
+    }
+
+    public void checkWinningBitmask(BetNumbers betNumbers, ObjLongConsumer<PrizeTier> consumer) {
+        long numbersBitmask = getNumbersBitmask();
+        long specialNumberBitmask = getSpecialNumberBitmask();
+        betNumbers.forEachCombinationBitmask(mask -> {
+            PrizeTier prizeTier = PrizeTier.fromMatches(Long.bitCount(mask & numbersBitmask), (mask & specialNumberBitmask) != 0);
+            if (prizeTier != null) {
+                consumer.accept(prizeTier, mask);
+            }
+        });
+    }
+
+    public long[] countWinningByTier(BetNumbers betNumbers) {
+        long[] counts = new long[PrizeTier.values().length];
+        if (!isBitmaskRepresentable() || !betNumbers.isBitmaskRepresentable()) {
+            checkWinningByCombinations(betNumbers).forEach(each -> counts[each.getFirst().ordinal()]++);
+            return counts;
+        }
+        long numbersBitmask = getNumbersBitmask();
+        long specialNumberBitmask = getSpecialNumberBitmask();
+        long bankers = betNumbers.getBankersBitmask();
+        long selections = betNumbers.getNumbersBitmask();
+        int size = betNumbers.getCombinationSize();
+        int bankerMatches = Long.bitCount(bankers & numbersBitmask);
+        boolean bankerSpecial = (bankers & specialNumberBitmask) != 0;
+        int hits = Long.bitCount(selections & numbersBitmask);
+        int special = Long.bitCount(selections & specialNumberBitmask);
+        int misses = Long.bitCount(selections & ~numbersBitmask & ~specialNumberBitmask);
+        for (int matches = bankerMatches; matches <= LotteryRegistry.NUMBERS_PER_BET; matches++) {
+            int hitsChosen = matches - bankerMatches;
+            int remaining = size - hitsChosen;
+            long hitsCombinations = MathUtils.binomial(hits, hitsChosen);
+            if (hitsCombinations <= 0 || remaining < 0) {
+                continue;
+            }
+            long withSpecial;
+            long withoutSpecial;
+            if (bankerSpecial) {
+                withSpecial = MathUtils.binomial(special + misses, remaining);
+                withoutSpecial = 0;
+            } else {
+                withSpecial = special * MathUtils.binomial(misses, remaining - 1);
+                withoutSpecial = MathUtils.binomial(misses, remaining);
+            }
+            PrizeTier specialTier = PrizeTier.fromMatches(matches, true);
+            if (specialTier != null) {
+                counts[specialTier.ordinal()] += hitsCombinations * withSpecial;
+            }
+            PrizeTier normalTier = PrizeTier.fromMatches(matches, false);
+            if (normalTier != null) {
+                counts[normalTier.ordinal()] += hitsCombinations * withoutSpecial;
+            }
+        }
+        for (long additional : betNumbers.getAdditionalSetsBitmasks()) {
+            PrizeTier prizeTier = PrizeTier.fromMatches(Long.bitCount(additional & numbersBitmask), (additional & specialNumberBitmask) != 0);
+            if (prizeTier != null) {
+                counts[prizeTier.ordinal()]++;
+            }
+        }
+        return counts;
+    }
+
+    public List<WinningCombination> winningCombinations(BetNumbers betNumbers, PrizeTier prizeTier) {
+        if (!isBitmaskRepresentable() || !betNumbers.isBitmaskRepresentable()) {
+            return checkWinningByCombinations(betNumbers).filter(each -> each.getFirst().equals(prizeTier)).map(each -> each.getSecond()).collect(Collectors.toList());
+        }
+        List<WinningCombination> combinations = new ArrayList<>();
+        forEachWinningCombinationBitmask(betNumbers, prizeTier, mask -> combinations.add(new WinningCombination(BitmaskUtils.toNumbers(mask))));
+        return combinations;
+    }
+
+    public void forEachWinningCombinationBitmask(BetNumbers betNumbers, PrizeTier prizeTier, LongConsumer consumer) {
+        long numbersBitmask = getNumbersBitmask();
+        long specialNumberBitmask = getSpecialNumberBitmask();
+        long bankers = betNumbers.getBankersBitmask();
+        long selections = betNumbers.getNumbersBitmask();
+        int size = betNumbers.getCombinationSize();
+        int bankerMatches = Long.bitCount(bankers & numbersBitmask);
+        boolean bankerSpecial = (bankers & specialNumberBitmask) != 0;
+        long hits = selections & numbersBitmask;
+        long special = selections & specialNumberBitmask;
+        long misses = selections & ~numbersBitmask & ~specialNumberBitmask;
+        List<Long> combinations = new ArrayList<>();
+        for (int matches = bankerMatches; matches <= LotteryRegistry.NUMBERS_PER_BET; matches++) {
+            int hitsChosen = matches - bankerMatches;
+            int remaining = size - hitsChosen;
+            if (remaining < 0) {
+                continue;
+            }
+            boolean specialTier = PrizeTier.fromMatches(matches, true) == prizeTier;
+            boolean normalTier = PrizeTier.fromMatches(matches, false) == prizeTier;
+            if (!specialTier && !normalTier) {
+                continue;
+            }
+            BitmaskUtils.forEachCombination(hits, hitsChosen, bankers, hitsMask -> {
+                if (bankerSpecial) {
+                    if (specialTier) {
+                        BitmaskUtils.forEachCombination(special | misses, remaining, hitsMask, mask -> combinations.add(mask));
+                    }
+                } else {
+                    if (specialTier && special != 0) {
+                        BitmaskUtils.forEachCombination(misses, remaining - 1, hitsMask | special, mask -> combinations.add(mask));
+                    }
+                    if (normalTier) {
+                        BitmaskUtils.forEachCombination(misses, remaining, hitsMask, mask -> combinations.add(mask));
+                    }
+                }
+            });
+        }
+        combinations.sort(BitmaskUtils.LEXICOGRAPHIC_ORDER);
+        for (long mask : combinations) {
+            consumer.accept(mask);
+        }
+        for (long additional : betNumbers.getAdditionalSetsBitmasks()) {
+            if (PrizeTier.fromMatches(Long.bitCount(additional & numbersBitmask), (additional & specialNumberBitmask) != 0) == prizeTier) {
+                consumer.accept(additional);
+            }
+        }
+    }
+
+    private Stream<Pair<PrizeTier, WinningCombination>> checkWinningByCombinations(BetNumbers betNumbers) {
         PrizeTier[] prizeTiers = PrizeTier.values();
         return betNumbers.combinations().map(numbers -> {
             int matches = (int) numbers.stream().filter(i -> this.numbers.contains(i)).limit(LotteryRegistry.NUMBERS_PER_BET).count();
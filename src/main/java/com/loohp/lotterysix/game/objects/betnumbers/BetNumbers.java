@@ -22,6 +22,7 @@ package com.loohp.lotterysix.game.objects.betnumbers;
 
 import com.loohp.lotterysix.game.LotteryRegistry;
 import com.loohp.lotterysix.game.objects.FormattedString;
+import com.loohp.lotterysix.utils.BitmaskUtils;
 import com.loohp.lotterysix.utils.ChatColorUtils;
 import org.paukov.combinatorics3.Generator;
 
@@ -33,6 +34,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -76,6 +78,19 @@ public class BetNumbers implements FormattedString {
         this.type = type;
     }
 
+    public static BetNumbers restore(Collection<Integer> bankers, Collection<Integer> numbers, List<Collection<Integer>> additionalSets, BetNumbersType type) {
+        if (type.isBanker()) {
+            return new BetNumbers(bankers, numbers, type);
+        }
+        if (additionalSets == null || additionalSets.isEmpty()) {
+            return new BetNumbers(numbers, type);
+        }
+        List<Collection<Integer>> sets = new ArrayList<>(additionalSets.size() + 1);
+        sets.add(numbers);
+        sets.addAll(additionalSets);
+        return new BetNumbers(sets, type);
+    }
+
     public Iterator<Integer> iterator() {
         return numbers.stream().iterator();
     }
@@ -94,6 +109,51 @@ public class BetNumbers implements FormattedString {
         }
     }
 
+    public boolean isBitmaskRepresentable() {
+        if (!BitmaskUtils.isRepresentable(numbers)) {
+            return false;
+        }
+        if (hasBankers() && !BitmaskUtils.isRepresentable(bankers)) {
+            return false;
+        }
+        if (hasAdditionalSets()) {
+            for (Set<Integer> additional : additionalSets) {
+                if (!BitmaskUtils.isRepresentable(additional)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public long getNumbersBitmask() {
+        return BitmaskUtils.toBitmask(numbers);
+    }
+
+    public long getBankersBitmask() {
+        return hasNoBankers() ? 0 : BitmaskUtils.toBitmask(bankers);
+    }
+
+    public int getCombinationSize() {
+        return hasNoBankers() ? LotteryRegistry.NUMBERS_PER_BET : LotteryRegistry.NUMBERS_PER_BET - bankers.size();
+    }
+
+    public long[] getAdditionalSetsBitmasks() {
+        if (hasNoAdditionalSets()) {
+            return new long[0];
+        }
+        return additionalSets.stream().mapToLong(each -> BitmaskUtils.toBitmask(each)).toArray();
+    }
+
+    public void forEachCombinationBitmask(LongConsumer consumer) {
+        BitmaskUtils.forEachCombination(getNumbersBitmask(), getCombinationSize(), getBankersBitmask(), consumer);
+        if (hasAdditionalSets()) {
+            for (Set<Integer> additional : additionalSets) {
+                consumer.accept(BitmaskUtils.toBitmask(additional));
+            }
+        }
+    }
+
     public Set<Integer> getNumbers() {
         return numbers;
     }
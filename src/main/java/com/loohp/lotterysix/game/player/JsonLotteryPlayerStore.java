@@ -0,0 +1,110 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.player;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public class JsonLotteryPlayerStore implements LotteryPlayerStore {
+
+    private final File folder;
+
+    public JsonLotteryPlayerStore(File folder) {
+        this.folder = folder;
+    }
+
+    private File getFile(UUID player) {
+        return new File(folder, player + ".json");
+    }
+
+    @Override
+    public void open() {
+        folder.mkdirs();
+    }
+
+    @Override
+    public Collection<UUID> getPlayers() {
+        folder.mkdirs();
+        File[] files = folder.listFiles();
+        if (files == null) {
+            return new HashSet<>();
+        }
+        Set<UUID> players = new HashSet<>(files.length);
+        for (File file : files) {
+            String fileName = file.getName();
+            if (fileName.endsWith(".json")) {
+                try {
+                    players.add(UUID.fromString(fileName.substring(0, fileName.lastIndexOf("."))));
+                } catch (IllegalArgumentException ignore) {
+                }
+            }
+        }
+        return players;
+    }
+
+    @Override
+    public boolean contains(UUID player) {
+        return getFile(player).exists();
+    }
+
+    @Override
+    public String load(UUID player) throws IOException {
+        File file = getFile(player);
+        if (!file.exists()) {
+            return null;
+        }
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public synchronized void save(Map<UUID, String> players) throws IOException {
+        folder.mkdirs();
+        for (Map.Entry<UUID, String> entry : players.entrySet()) {
+            try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(Files.newOutputStream(getFile(entry.getKey()).toPath()), StandardCharsets.UTF_8))) {
+                pw.println(entry.getValue());
+                pw.flush();
+            }
+        }
+    }
+
+    @Override
+    public void backupCorrupted(UUID player) {
+        try {
+            Files.copy(getFile(player).toPath(), new File(folder, player + ".json.bak." + System.currentTimeMillis()).toPath());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+}
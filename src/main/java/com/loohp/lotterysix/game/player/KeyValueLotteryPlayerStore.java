@@ -0,0 +1,317 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.player;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.UUID;
+
+public class KeyValueLotteryPlayerStore implements LotteryPlayerStore {
+
+    public static final String FILE_NAME = "players.lsk";
+    public static final long COMPACTION_THRESHOLD = 4 * 1024 * 1024;
+
+    private static final int FILE_MAGIC = 0x4C53504B;
+    private static final int FILE_VERSION = 1;
+    private static final int FILE_HEADER_SIZE = 4 + 4;
+    private static final int RECORD_MAGIC = 0x4C535052;
+    private static final int RECORD_HEADER_SIZE = 4 + 16 + 4;
+    private static final int INDEX_MAGIC = 0x4C535049;
+    private static final int INDEX_HEADER_SIZE = 4 + 4;
+    private static final int INDEX_ENTRY_SIZE = 16 + 8 + 4;
+    private static final int FOOTER_MAGIC = 0x4C535046;
+    private static final int FOOTER_SIZE = 8 + 4;
+
+    private final File folder;
+    private final File file;
+    private Map<UUID, Record> index;
+    private FileChannel channel;
+    private long dataEnd;
+    private long liveBytes;
+
+    public KeyValueLotteryPlayerStore(File folder) {
+        this.folder = folder;
+        this.file = new File(folder, FILE_NAME);
+        this.index = new HashMap<>();
+    }
+
+    @Override
+    public synchronized void open() throws IOException {
+        close();
+        folder.mkdirs();
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index = new HashMap<>();
+        liveBytes = 0;
+        long size = channel.size();
+        if (size < FILE_HEADER_SIZE) {
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+            header.putInt(FILE_MAGIC).putInt(FILE_VERSION).flip();
+            channel.truncate(0);
+            write(channel, header, 0);
+            channel.force(false);
+            dataEnd = FILE_HEADER_SIZE;
+            return;
+        }
+        ByteBuffer header = read(channel, 0, FILE_HEADER_SIZE);
+        if (header.getInt() != FILE_MAGIC) {
+            throw new IOException(file.getName() + " is not a LotterySix player store");
+        }
+        int version = header.getInt();
+        if (version != FILE_VERSION) {
+            throw new IOException("Unsupported player store version " + version + " in " + file.getName());
+        }
+        if (!readIndex(size)) {
+            scan(size);
+        }
+        for (Record record : index.values()) {
+            liveBytes += RECORD_HEADER_SIZE + record.length;
+        }
+    }
+
+    private boolean readIndex(long size) throws IOException {
+        if (size < FILE_HEADER_SIZE + INDEX_HEADER_SIZE + FOOTER_SIZE) {
+            return false;
+        }
+        ByteBuffer footer = read(channel, size - FOOTER_SIZE, FOOTER_SIZE);
+        long indexOffset = footer.getLong();
+        if (footer.getInt() != FOOTER_MAGIC || indexOffset < FILE_HEADER_SIZE || indexOffset + INDEX_HEADER_SIZE + FOOTER_SIZE > size) {
+            return false;
+        }
+        ByteBuffer indexHeader = read(channel, indexOffset, INDEX_HEADER_SIZE);
+        int count = indexHeader.getInt() == INDEX_MAGIC ? indexHeader.getInt() : -1;
+        if (count < 0 || indexOffset + INDEX_HEADER_SIZE + (long) count * INDEX_ENTRY_SIZE + FOOTER_SIZE != size) {
+            return false;
+        }
+        ByteBuffer entries = read(channel, indexOffset + INDEX_HEADER_SIZE, count * INDEX_ENTRY_SIZE);
+        for (int i = 0; i < count; i++) {
+            UUID player = new UUID(entries.getLong(), entries.getLong());
+            long offset = entries.getLong();
+            int length = entries.getInt();
+            if (offset < FILE_HEADER_SIZE || length < 0 || offset + length > indexOffset) {
+                index.clear();
+                return false;
+            }
+            index.put(player, new Record(offset, length));
+        }
+        dataEnd = indexOffset;
+        channel.truncate(indexOffset);
+        return true;
+    }
+
+    private void scan(long size) throws IOException {
+        long position = FILE_HEADER_SIZE;
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        while (position + RECORD_HEADER_SIZE <= size) {
+            header.clear();
+            while (header.hasRemaining()) {
+                if (channel.read(header, position + header.position()) < 0) {
+                    break;
+                }
+            }
+            header.flip();
+            if (header.remaining() < RECORD_HEADER_SIZE || header.getInt() != RECORD_MAGIC) {
+                break;
+            }
+            UUID player = new UUID(header.getLong(), header.getLong());
+            int length = header.getInt();
+            if (length < 0 || position + RECORD_HEADER_SIZE + length > size) {
+                break;
+            }
+            index.put(player, new Record(position + RECORD_HEADER_SIZE, length));
+            position += RECORD_HEADER_SIZE + length;
+        }
+        dataEnd = position;
+        if (position < size) {
+            channel.truncate(position);
+        }
+    }
+
+    @Override
+    public synchronized Collection<UUID> getPlayers() {
+        return new HashSet<>(index.keySet());
+    }
+
+    @Override
+    public synchronized boolean contains(UUID player) {
+        return index.containsKey(player);
+    }
+
+    @Override
+    public synchronized String load(UUID player) throws IOException {
+        Record record = index.get(player);
+        if (record == null) {
+            return null;
+        }
+        ensureOpen();
+        ByteBuffer buffer = read(channel, record.offset, record.length);
+        return new String(buffer.array(), 0, record.length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public synchronized void save(Map<UUID, String> players) throws IOException {
+        if (players.isEmpty()) {
+            return;
+        }
+        ensureOpen();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        Map<UUID, Record> written = new HashMap<>(players.size());
+        for (Map.Entry<UUID, String> entry : players.entrySet()) {
+            UUID player = entry.getKey();
+            byte[] bytes = entry.getValue().getBytes(StandardCharsets.UTF_8);
+            out.writeInt(RECORD_MAGIC);
+            out.writeLong(player.getMostSignificantBits());
+            out.writeLong(player.getLeastSignificantBits());
+            out.writeInt(bytes.length);
+            written.put(player, new Record(dataEnd + out.size(), bytes.length));
+            out.write(bytes);
+        }
+        out.flush();
+        write(channel, ByteBuffer.wrap(baos.toByteArray()), dataEnd);
+        channel.force(false);
+        dataEnd += baos.size();
+        for (Map.Entry<UUID, Record> entry : written.entrySet()) {
+            Record previous = index.put(entry.getKey(), entry.getValue());
+            if (previous != null) {
+                liveBytes -= RECORD_HEADER_SIZE + previous.length;
+            }
+            liveBytes += RECORD_HEADER_SIZE + entry.getValue().length;
+        }
+        long deadBytes = dataEnd - FILE_HEADER_SIZE - liveBytes;
+        if (deadBytes > COMPACTION_THRESHOLD && deadBytes > liveBytes) {
+            compact();
+        }
+    }
+
+    public synchronized void compact() throws IOException {
+        ensureOpen();
+        File temporaryFile = new File(folder, FILE_NAME + ".tmp");
+        Map<UUID, Record> compactedIndex = new HashMap<>(index.size());
+        long position = FILE_HEADER_SIZE;
+        try (FileChannel temporaryChannel = FileChannel.open(temporaryFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+            header.putInt(FILE_MAGIC).putInt(FILE_VERSION).flip();
+            write(temporaryChannel, header, 0);
+            for (Map.Entry<UUID, Record> entry : index.entrySet()) {
+                Record record = entry.getValue();
+                long recordStart = record.offset - RECORD_HEADER_SIZE;
+                write(temporaryChannel, read(channel, recordStart, RECORD_HEADER_SIZE + record.length), position);
+                compactedIndex.put(entry.getKey(), new Record(position + RECORD_HEADER_SIZE, record.length));
+                position += RECORD_HEADER_SIZE + record.length;
+            }
+            temporaryChannel.force(false);
+        }
+        channel.close();
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index = compactedIndex;
+        dataEnd = position;
+    }
+
+    @Override
+    public synchronized void backupCorrupted(UUID player) {
+        try {
+            String data = load(player);
+            if (data != null) {
+                Files.write(new File(folder, player + ".json.bak." + System.currentTimeMillis()).toPath(), data.getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            if (channel.isOpen()) {
+                ByteBuffer buffer = ByteBuffer.allocate(INDEX_HEADER_SIZE + index.size() * INDEX_ENTRY_SIZE + FOOTER_SIZE);
+                buffer.putInt(INDEX_MAGIC);
+                buffer.putInt(index.size());
+                for (Map.Entry<UUID, Record> entry : index.entrySet()) {
+                    buffer.putLong(entry.getKey().getMostSignificantBits());
+                    buffer.putLong(entry.getKey().getLeastSignificantBits());
+                    buffer.putLong(entry.getValue().offset);
+                    buffer.putInt(entry.getValue().length);
+                }
+                buffer.putLong(dataEnd);
+                buffer.putInt(FOOTER_MAGIC);
+                buffer.flip();
+                write(channel, buffer, dataEnd);
+                channel.force(false);
+                channel.close();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        channel = null;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            throw new IOException("Player store " + file.getName() + " is not open");
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of player store");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static class Record {
+
+        private final long offset;
+        private final int length;
+
+        private Record(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+    }
+
+}
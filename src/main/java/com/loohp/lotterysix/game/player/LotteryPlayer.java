@@ -70,7 +70,7 @@ public class LotteryPlayer {
         if (!manager.getInstance().backendBungeecordMode) {
             manager.getInstance().getLotteryPlayerUpdateListener().accept(this);
         }
-        new Thread(() -> manager.saveLotteryPlayer(player), "LotteryPlayer Save Thread - " + player).start();
+        manager.markDirty(this);
     }
 
     public UUID getPlayer() {
@@ -86,6 +86,7 @@ public class LotteryPlayer {
         }
         this.multipleDrawPlayerBets.clear();
         this.multipleDrawPlayerBets.addAll(multipleDrawPlayerBets);
+        manager.updateMultipleDrawIndex(this);
         save();
     }
 
@@ -121,6 +122,10 @@ public class LotteryPlayer {
         return (T) getStats(key);
     }
 
+    public boolean isStatsSet(PlayerStatsKey key) {
+        return stats.containsKey(key);
+    }
+
     public void setStats(PlayerStatsKey key, Object value) {
         stats.put(key, value);
         save();
@@ -154,6 +159,18 @@ public class LotteryPlayer {
         return t == null ? defaultValue : t;
     }
 
+    @SuppressWarnings("unchecked")
+    public void updateStats(Map<PlayerStatsKey, UnaryOperator<?>> updateFunctions, boolean save) {
+        for (Map.Entry<PlayerStatsKey, UnaryOperator<?>> entry : updateFunctions.entrySet()) {
+            PlayerStatsKey key = entry.getKey();
+            UnaryOperator<Object> updateFunction = (UnaryOperator<Object>) entry.getValue();
+            stats.compute(key, (k, v) -> updateFunction.apply(v == null ? key.getDefaultValue() : v));
+        }
+        if (save) {
+            save();
+        }
+    }
+
     public List<PlayerBets> getMultipleDrawPlayerBets() {
         return multipleDrawPlayerBets;
     }
@@ -165,6 +182,7 @@ public class LotteryPlayer {
     public void setMultipleDrawPlayerBets(List<PlayerBets> bets, boolean save) {
         multipleDrawPlayerBets.clear();
         multipleDrawPlayerBets.addAll(bets);
+        manager.updateMultipleDrawIndex(this);
         if (save) {
             save();
         }
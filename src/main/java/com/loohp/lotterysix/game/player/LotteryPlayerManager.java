@@ -28,39 +28,115 @@ import com.loohp.lotterysix.game.LotterySix;
 import com.loohp.lotterysix.game.objects.PlayerBets;
 import com.loohp.lotterysix.game.objects.PlayerPreferenceKey;
 import com.loohp.lotterysix.game.objects.PlayerStatsKey;
+import com.loohp.lotterysix.game.objects.PlayerStorageType;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
 import java.lang.ref.WeakReference;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class LotteryPlayerManager {
 
     public static final Gson GSON = LotterySix.GSON;
+    public static final long MAX_SAVE_DELAY = 1000;
+    public static final int MIGRATION_BATCH_SIZE = 1000;
 
     private final LotterySix instance;
     private final Map<UUID, WeakReference<LotteryPlayer>> loadedPlayers;
     private final Set<LotteryPlayer> persistentReferences;
+    private final Map<UUID, LotteryPlayer> dirtyPlayers;
+    private final AtomicBoolean flushScheduled;
+    private final ScheduledExecutorService saveService;
+    private final MultipleDrawPlayerIndex multipleDrawIndex;
+    private volatile PlayerStorageType storageType;
+    private volatile LotteryPlayerStore store;
 
     public LotteryPlayerManager(LotterySix instance) {
         this.instance = instance;
         this.loadedPlayers = new ConcurrentHashMap<>();
         this.persistentReferences = ConcurrentHashMap.newKeySet();
+        this.dirtyPlayers = new ConcurrentHashMap<>();
+        this.flushScheduled = new AtomicBoolean(false);
+        this.saveService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "LotterySix Player Save Thread");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.multipleDrawIndex = new MultipleDrawPlayerIndex(new File(instance.getDataFolder(), "player"));
+        this.storageType = instance.playerStorageType;
+        this.store = createStore(storageType);
+        try {
+            store.open();
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to open " + storageType + " player storage", e);
+        }
+    }
+
+    private LotteryPlayerStore createStore(PlayerStorageType type) {
+        File playerFolder = new File(instance.getDataFolder(), "player");
+        switch (type) {
+            case KEY_VALUE:
+                return new KeyValueLotteryPlayerStore(playerFolder);
+            case JSON:
+            default:
+                return new JsonLotteryPlayerStore(playerFolder);
+        }
+    }
+
+    public PlayerStorageType getStorageType() {
+        return storageType;
+    }
+
+    public synchronized int migrate(PlayerStorageType type) throws IOException {
+        if (type.equals(storageType)) {
+            return 0;
+        }
+        flushDirtyPlayers();
+        LotteryPlayerStore source = store;
+        LotteryPlayerStore target = createStore(type);
+        int migrated = 0;
+        try {
+            target.open();
+            Map<UUID, String> batch = new HashMap<>(MIGRATION_BATCH_SIZE);
+            for (UUID player : source.getPlayers()) {
+                String data = source.load(player);
+                if (data == null) {
+                    continue;
+                }
+                batch.put(player, data);
+                if (batch.size() >= MIGRATION_BATCH_SIZE) {
+                    target.save(batch);
+                    migrated += batch.size();
+                    batch.clear();
+                }
+            }
+            target.save(batch);
+            migrated += batch.size();
+        } catch (IOException | RuntimeException e) {
+            target.close();
+            throw e;
+        }
+        store = target;
+        storageType = type;
+        source.close();
+        multipleDrawIndex.invalidate();
+        rebuildMultipleDrawIndex();
+        return migrated;
     }
 
     public LotterySix getInstance() {
@@ -84,21 +160,34 @@ public class LotteryPlayerManager {
     }
 
     public Collection<UUID> getAllLotteryPlayerUUIDs() {
-        File playerFolder = new File(instance.getDataFolder(), "player");
-        playerFolder.mkdirs();
-        File[] files = playerFolder.listFiles();
-        Set<UUID> lotteryPlayers = new HashSet<>(files.length + loadedPlayers.size());
+        Set<UUID> lotteryPlayers = new HashSet<>(store.getPlayers());
         lotteryPlayers.addAll(loadedPlayers.keySet());
-        for (File file : files) {
-            String fileName = file.getName();
-            if (fileName.endsWith(".json")) {
-                try {
-                    lotteryPlayers.add(UUID.fromString(fileName.substring(0, fileName.lastIndexOf("."))));
-                } catch (IllegalArgumentException ignore) {
-                }
+        return lotteryPlayers;
+    }
+
+    public Collection<UUID> getMultipleDrawPlayerUUIDs() {
+        if (!multipleDrawIndex.isLoaded() && !multipleDrawIndex.load()) {
+            rebuildMultipleDrawIndex();
+        }
+        return multipleDrawIndex.getPlayers();
+    }
+
+    private synchronized void rebuildMultipleDrawIndex() {
+        if (multipleDrawIndex.isLoaded()) {
+            return;
+        }
+        Set<UUID> players = new HashSet<>();
+        for (UUID uuid : getAllLotteryPlayerUUIDs()) {
+            if (!getLotteryPlayer(uuid).getMultipleDrawPlayerBets().isEmpty()) {
+                players.add(uuid);
             }
         }
-        return lotteryPlayers;
+        multipleDrawIndex.rebuild(players);
+        multipleDrawIndex.save();
+    }
+
+    protected void updateMultipleDrawIndex(LotteryPlayer lotteryPlayer) {
+        multipleDrawIndex.update(lotteryPlayer.getPlayer(), !lotteryPlayer.getMultipleDrawPlayerBets().isEmpty());
     }
 
     public boolean isLotteryPlayerLoaded(UUID player) {
@@ -111,84 +200,184 @@ public class LotteryPlayerManager {
 
     public synchronized LotteryPlayer loadLotteryPlayer(UUID player, boolean persist) {
         LotteryPlayer loaded = getLotteryPlayer(player, false);
-        if (loaded != null) {
-            if (persist) {
-                persistentReferences.add(loaded);
+        if (loaded == null) {
+            LotteryPlayerStore store = this.store;
+            LotteryPlayer lotteryPlayer = null;
+            try {
+                lotteryPlayer = readLotteryPlayer(store, player);
+            } catch (Exception e) {
+                new RuntimeException("Error while reading data for lottery player " + player, e).printStackTrace();
+                store.backupCorrupted(player);
             }
-            return loaded;
+            loaded = registerLotteryPlayer(player, lotteryPlayer);
         }
-        File playerFolder = new File(instance.getDataFolder(), "player");
-        playerFolder.mkdirs();
-        File file = new File(playerFolder, player + ".json");
-        if (file.exists()) {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8))) {
-                JsonObject json = GSON.fromJson(reader, JsonObject.class);
-
-                Map<PlayerPreferenceKey, Object> preferences = new EnumMap<>(PlayerPreferenceKey.class);
-                JsonObject preferencesJson = json.getAsJsonObject("preferences");
-
-                for (PlayerPreferenceKey key : PlayerPreferenceKey.values()) {
-                    JsonElement element = preferencesJson.get(key.name());
-                    if (element != null) {
-                        preferences.put(key, GSON.fromJson(element, key.getValueTypeClass()));
-                    }
+        if (persist) {
+            persistentReferences.add(loaded);
+        }
+        return loaded;
+    }
+
+    public Map<UUID, LotteryPlayer> loadLotteryPlayers(Collection<UUID> players) {
+        LotteryPlayerStore store = this.store;
+        Map<UUID, LotteryPlayer> lotteryPlayers = new HashMap<>(players.size());
+        for (UUID player : players) {
+            LotteryPlayer lotteryPlayer = getLotteryPlayer(player, false);
+            if (lotteryPlayer == null) {
+                try {
+                    lotteryPlayer = registerLotteryPlayer(player, readLotteryPlayer(store, player));
+                } catch (Exception e) {
+                    lotteryPlayer = loadLotteryPlayer(player, false);
                 }
+            }
+            lotteryPlayers.put(player, lotteryPlayer);
+        }
+        return lotteryPlayers;
+    }
 
-                JsonObject statsJson = json.getAsJsonObject("stats");
-                Map<PlayerStatsKey, Object> stats = new EnumMap<>(PlayerStatsKey.class);
+    private LotteryPlayer readLotteryPlayer(LotteryPlayerStore store, UUID player) throws IOException {
+        String data = store.load(player);
+        if (data == null) {
+            return null;
+        }
+        JsonObject json = GSON.fromJson(data, JsonObject.class);
 
-                for (PlayerStatsKey key : PlayerStatsKey.values()) {
-                    JsonElement element = statsJson.get(key.name());
-                    if (element != null) {
-                        stats.put(key, GSON.fromJson(element, key.getValueTypeClass()));
-                    }
-                }
+        Map<PlayerPreferenceKey, Object> preferences = new EnumMap<>(PlayerPreferenceKey.class);
+        JsonObject preferencesJson = json.getAsJsonObject("preferences");
 
-                List<PlayerBets> multipleDrawPlayerBets = GSON.fromJson(json.getAsJsonArray("multipleDrawPlayerBets"), new TypeToken<ArrayList<PlayerBets>>(){}.getType());
+        for (PlayerPreferenceKey key : PlayerPreferenceKey.values()) {
+            JsonElement element = preferencesJson.get(key.name());
+            if (element != null) {
+                preferences.put(key, GSON.fromJson(element, key.getValueTypeClass()));
+            }
+        }
 
-                LotteryPlayer lotteryPlayer = new LotteryPlayer(this, UUID.fromString(json.get("player").getAsString()), preferences, stats, multipleDrawPlayerBets == null ? Collections.emptyList() : multipleDrawPlayerBets);
+        JsonObject statsJson = json.getAsJsonObject("stats");
+        Map<PlayerStatsKey, Object> stats = new EnumMap<>(PlayerStatsKey.class);
 
-                lotteryPlayer.setManager(this);
-                loadedPlayers.put(player, new WeakReference<>(lotteryPlayer));
-                if (persist) {
-                    persistentReferences.add(lotteryPlayer);
-                }
-                return lotteryPlayer;
-            } catch (Exception e) {
-                new RuntimeException("Error while reading data for lottery player " + player, e).printStackTrace();
-                try {
-                    Files.copy(file.toPath(), new File(playerFolder, player + ".json.bak." + System.currentTimeMillis()).toPath());
-                } catch (IOException e1) {
-                    e1.printStackTrace();
-                }
+        for (PlayerStatsKey key : PlayerStatsKey.values()) {
+            JsonElement element = statsJson.get(key.name());
+            if (element != null) {
+                stats.put(key, GSON.fromJson(element, key.getValueTypeClass()));
             }
         }
-        LotteryPlayer lotteryPlayer = new LotteryPlayer(this, player);
-        loadedPlayers.put(player, new WeakReference<>(lotteryPlayer));
-        if (persist) {
-            persistentReferences.add(lotteryPlayer);
+
+        List<PlayerBets> multipleDrawPlayerBets = GSON.fromJson(json.getAsJsonArray("multipleDrawPlayerBets"), new TypeToken<ArrayList<PlayerBets>>(){}.getType());
+
+        return new LotteryPlayer(this, UUID.fromString(json.get("player").getAsString()), preferences, stats, multipleDrawPlayerBets == null ? Collections.emptyList() : multipleDrawPlayerBets);
+    }
+
+    private synchronized LotteryPlayer registerLotteryPlayer(UUID player, LotteryPlayer lotteryPlayer) {
+        LotteryPlayer loaded = getLotteryPlayer(player, false);
+        if (loaded != null) {
+            return loaded;
+        }
+        if (lotteryPlayer == null) {
+            lotteryPlayer = new LotteryPlayer(this, player);
+            loadedPlayers.put(player, new WeakReference<>(lotteryPlayer));
+            markDirty(lotteryPlayer);
+        } else {
+            updateMultipleDrawIndex(lotteryPlayer);
+            loadedPlayers.put(player, new WeakReference<>(lotteryPlayer));
         }
-        saveLotteryPlayer(player);
         return lotteryPlayer;
     }
 
-    public synchronized void saveLotteryPlayer(UUID player) {
-        LotteryPlayer lotteryPlayer = getLotteryPlayer(player, false);
+    public void markDirty(LotteryPlayer lotteryPlayer) {
+        dirtyPlayers.put(lotteryPlayer.getPlayer(), lotteryPlayer);
+        if (!scheduleFlush()) {
+            saveLotteryPlayer(lotteryPlayer.getPlayer());
+        }
+    }
+
+    private boolean scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                saveService.schedule(() -> flushDirtyPlayers(), MAX_SAVE_DELAY, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isDirty(UUID player) {
+        return dirtyPlayers.containsKey(player);
+    }
+
+    public void flushDirtyPlayers() {
+        flushScheduled.set(false);
+        Map<UUID, LotteryPlayer> batch = new HashMap<>();
+        for (UUID player : dirtyPlayers.keySet()) {
+            LotteryPlayer lotteryPlayer = dirtyPlayers.remove(player);
+            if (lotteryPlayer != null) {
+                batch.put(player, lotteryPlayer);
+            }
+        }
+        multipleDrawIndex.save();
+        writeLotteryPlayers(batch);
+    }
+
+    public void saveLotteryPlayer(UUID player) {
+        LotteryPlayer lotteryPlayer = dirtyPlayers.remove(player);
+        if (lotteryPlayer == null) {
+            lotteryPlayer = getLotteryPlayer(player, false);
+        }
         if (lotteryPlayer != null) {
-            File playerFolder = new File(instance.getDataFolder(), "player");
-            playerFolder.mkdirs();
-            File file = new File(playerFolder, player + ".json");
-            try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8))) {
-                pw.println(GSON.toJson(lotteryPlayer));
-                pw.flush();
-            } catch (IOException e) {
-                e.printStackTrace();
+            multipleDrawIndex.save();
+            writeLotteryPlayers(Collections.singletonMap(player, lotteryPlayer));
+        }
+    }
+
+    public void saveLotteryPlayers(Collection<LotteryPlayer> lotteryPlayers) {
+        Map<UUID, LotteryPlayer> batch = new HashMap<>(lotteryPlayers.size());
+        for (LotteryPlayer lotteryPlayer : lotteryPlayers) {
+            if (!instance.backendBungeecordMode) {
+                instance.getLotteryPlayerUpdateListener().accept(lotteryPlayer);
+            }
+            dirtyPlayers.remove(lotteryPlayer.getPlayer());
+            batch.put(lotteryPlayer.getPlayer(), lotteryPlayer);
+        }
+        multipleDrawIndex.save();
+        writeLotteryPlayers(batch);
+    }
+
+    private synchronized void writeLotteryPlayers(Map<UUID, LotteryPlayer> lotteryPlayers) {
+        if (lotteryPlayers.isEmpty()) {
+            return;
+        }
+        Map<UUID, String> data = new HashMap<>(lotteryPlayers.size());
+        for (Map.Entry<UUID, LotteryPlayer> entry : lotteryPlayers.entrySet()) {
+            data.put(entry.getKey(), GSON.toJson(entry.getValue()));
+        }
+        try {
+            store.save(data);
+        } catch (IOException e) {
+            instance.getConsoleMessageConsumer().accept("Unable to save " + lotteryPlayers.size() + " lottery players, they will be retried on the next flush: " + e);
+            e.printStackTrace();
+            // players marked dirty again since this batch was taken hold newer data
+            for (Map.Entry<UUID, LotteryPlayer> entry : lotteryPlayers.entrySet()) {
+                dirtyPlayers.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            scheduleFlush();
+        }
+    }
+
+    public void close() {
+        saveService.shutdown();
+        try {
+            if (!saveService.awaitTermination(5000, TimeUnit.MILLISECONDS)) {
+                saveService.shutdownNow();
             }
+        } catch (InterruptedException e) {
+            e.printStackTrace();
         }
+        flushDirtyPlayers();
+        store.close();
     }
 
     public void unloadLotteryPlayer(UUID player, boolean save) {
-        if (save) {
+        if (save || isDirty(player)) {
             saveLotteryPlayer(player);
         }
         LotteryPlayer lotteryPlayer = getLotteryPlayer(player, false);
@@ -0,0 +1,126 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.game.player;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.loohp.lotterysix.game.LotterySix;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class MultipleDrawPlayerIndex {
+
+    public static final String FILE_NAME = "multiple-draw-index.json";
+
+    private final File folder;
+    private final File file;
+    private final Set<UUID> players;
+    private final AtomicBoolean dirty;
+    private volatile boolean loaded;
+
+    public MultipleDrawPlayerIndex(File folder) {
+        this.folder = folder;
+        this.file = new File(folder, FILE_NAME);
+        this.players = ConcurrentHashMap.newKeySet();
+        this.dirty = new AtomicBoolean(false);
+        this.loaded = false;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public synchronized boolean load() {
+        if (loaded) {
+            return true;
+        }
+        if (!file.exists()) {
+            return false;
+        }
+        try {
+            JsonArray array = LotterySix.GSON.fromJson(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8), JsonArray.class);
+            for (JsonElement element : array) {
+                players.add(UUID.fromString(element.getAsString()));
+            }
+            loaded = true;
+            return true;
+        } catch (Exception e) {
+            new RuntimeException("Error while reading the multiple draw player index, it will be rebuilt", e).printStackTrace();
+            return false;
+        }
+    }
+
+    public synchronized void rebuild(Collection<UUID> players) {
+        Set<UUID> pending = new HashSet<>(this.players);
+        this.players.clear();
+        this.players.addAll(players);
+        this.players.addAll(pending);
+        loaded = true;
+        dirty.set(true);
+    }
+
+    public synchronized void invalidate() {
+        loaded = false;
+        dirty.set(false);
+        file.delete();
+    }
+
+    public void update(UUID player, boolean hasMultipleDrawBets) {
+        boolean changed = hasMultipleDrawBets ? players.add(player) : players.remove(player);
+        if (changed) {
+            dirty.set(true);
+        }
+    }
+
+    public Set<UUID> getPlayers() {
+        return new HashSet<>(players);
+    }
+
+    public synchronized void save() {
+        if (!loaded || !dirty.getAndSet(false)) {
+            return;
+        }
+        JsonArray array = new JsonArray();
+        for (UUID player : players) {
+            array.add(player.toString());
+        }
+        folder.mkdirs();
+        try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8))) {
+            pw.println(LotterySix.GSON.toJson(array));
+            pw.flush();
+        } catch (IOException e) {
+            dirty.set(true);
+            e.printStackTrace();
+        }
+    }
+
+}
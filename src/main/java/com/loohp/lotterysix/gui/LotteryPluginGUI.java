@@ -100,6 +100,7 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -377,6 +378,12 @@ public class LotteryPluginGUI implements Listener {
         }
     }
 
+    private Void gameLoadFailed(HumanEntity player, Throwable error) {
+        error.printStackTrace();
+        player.sendMessage(instance.messageGameLoadFailed);
+        return null;
+    }
+
     public InventoryGui getMainMenu(Player player) {
         GUIInfo guiInfo = LotterySixPlugin.getInstance().guiInfo.get(GUIType.MAIN_MENU);
         String[] guiSetup = guiInfo.getLayout();
@@ -385,12 +392,26 @@ public class LotteryPluginGUI implements Listener {
         gui.addElement(new StaticGuiElement('a', new ItemStack(Material.AIR), ChatColor.LIGHT_PURPLE.toString()));
         gui.addElement(new StaticGuiElement('y', getFillerItem(XMaterial.ORANGE_STAINED_GLASS_PANE.parseItem()), ChatColor.LIGHT_PURPLE.toString()));
 
-        CompletedLotterySixGame completedGame = instance.getCompletedGames().getLatest();
-        gui.addElement(new StaticGuiElement('b', completedGame != null && completedGame.hasPlayerWinnings(player.getUniqueId()) ? setInfo(setEnchanted(XMaterial.CLOCK.parseItem()), guiInfo, 0) : setInfo(XMaterial.CLOCK.parseItem(), guiInfo, 1), click -> {
-            Scheduler.runTaskLater(plugin, () -> close(click.getWhoClicked(), gui, false), 1, player);
-            Scheduler.runTaskLater(plugin, () -> getPastResults((Player) click.getWhoClicked(), completedGame).show(click.getWhoClicked()), 2, player);
-            return true;
-        }, LotteryUtils.formatPlaceholders(player, instance.guiMainMenuCheckPastResults, instance)));
+        AtomicReference<CompletedLotterySixGame> latestGame = new AtomicReference<>(instance.getCompletedGames().getLatestIfLoaded());
+        if (latestGame.get() == null) {
+            instance.getCompletedGames().getLatestAsync().thenAccept(game -> {
+                if (game != null) {
+                    latestGame.set(game);
+                    Scheduler.runTaskLater(plugin, () -> gui.draw(), 1, player);
+                }
+            }).exceptionally(error -> {
+                error.printStackTrace();
+                return null;
+            });
+        }
+        gui.addElement(new DynamicGuiElement('b', viewer -> {
+            CompletedLotterySixGame completedGame = latestGame.get();
+            return new StaticGuiElement('b', completedGame != null && completedGame.hasPlayerWinnings(player.getUniqueId()) ? setInfo(setEnchanted(XMaterial.CLOCK.parseItem()), guiInfo, 0) : setInfo(XMaterial.CLOCK.parseItem(), guiInfo, 1), click -> {
+                Scheduler.runTaskLater(plugin, () -> close(click.getWhoClicked(), gui, false), 1, player);
+                instance.getCompletedGames().getLatestAsync().thenAccept(game -> Scheduler.runTaskLater(plugin, () -> getPastResults((Player) click.getWhoClicked(), game).show(click.getWhoClicked()), 2, player)).exceptionally(error -> gameLoadFailed(click.getWhoClicked(), error));
+                return true;
+            }, LotteryUtils.formatPlaceholders(player, instance.guiMainMenuCheckPastResults, instance));
+        }));
         gui.addElement(new DynamicGuiElement('c', viewer -> {
             PlayableLotterySixGame currentGame = instance.getCurrentGame();
             if (currentGame == null) {
@@ -421,7 +442,7 @@ public class LotteryPluginGUI implements Listener {
             }
         }));
         gui.addElement(new StaticGuiElement('e', setInfo(XMaterial.OAK_SIGN.parseItem(), guiInfo, 6), click -> {
-            Scheduler.runTaskLater(plugin, () -> getNumberStatistics((Player) click.getWhoClicked(), instance.getCompletedGames().getLatest()).show(click.getWhoClicked()), 1, player);
+            instance.getCompletedGames().getLatestAsync().thenAccept(game -> Scheduler.runTaskLater(plugin, () -> getNumberStatistics((Player) click.getWhoClicked(), game).show(click.getWhoClicked()), 1, player)).exceptionally(error -> gameLoadFailed(click.getWhoClicked(), error));
             return true;
         }, LotteryUtils.formatPlaceholders(player, instance.guiMainMenuStatistics, instance)));
         gui.addElement(new StaticGuiElement('z', setInfo(XMaterial.COMPASS.parseItem(), guiInfo, 7), click -> {
@@ -1972,6 +1993,7 @@ public class LotteryPluginGUI implements Listener {
         int startPosition = Math.max(0, currentPosition - currentPosition % 5);
         for (int i = startPosition; i < startPosition + 5 && i < completedGames.size(); i++) {
             CompletedLotterySixGameIndex gameIndex = completedGames.getIndex(i);
+            completedGames.accessed(player.getUniqueId().toString(), i);
             list.add(gameIndex);
             position.put(gameIndex, i);
         }
@@ -2008,10 +2030,7 @@ public class LotteryPluginGUI implements Listener {
         for (CompletedLotterySixGameIndex gameIndex : list) {
             gui.addElement(new StaticGuiElement(c++, setInfo(XMaterial.PAPER.parseItem(), guiInfo, 2), click -> {
                 Scheduler.runTaskLater(plugin, () -> close(player, gui, false), 1, player);
-                Scheduler.runTaskAsynchronously(plugin, () -> {
-                    CompletedLotterySixGame game = completedGames.get(position.get(gameIndex));
-                    Scheduler.runTaskLater(plugin, () -> getPastResults(player, game).show(player), 2, player);
-                });
+                completedGames.getAsync(position.get(gameIndex)).thenAccept(game -> Scheduler.runTaskLater(plugin, () -> getPastResults(player, game).show(player), 2, player)).exceptionally(error -> gameLoadFailed(player, error));
                 return true;
             }, LotteryUtils.formatPlaceholders(player, instance.guiLastResultsHistoricGameListInfo, instance, gameIndex)));
             if (gameIndex.hasSpecialName()) {
@@ -2044,20 +2063,21 @@ public class LotteryPluginGUI implements Listener {
                         if (slot != AnvilGUI.Slot.OUTPUT) {
                             return Collections.emptyList();
                         }
-                        Scheduler.runTaskAsynchronously(plugin, () -> {
-                            String input = completion.getText().trim();
-                            try {
-                                GameNumber gameNumber = GameNumber.fromString(input);
-                                CompletedLotterySixGame targetGame = instance.getCompletedGames().get(gameNumber);
-                                if (targetGame == null) {
+                        String input = completion.getText().trim();
+                        try {
+                            GameNumber gameNumber = GameNumber.fromString(input);
+                            instance.getCompletedGames().getAsync(gameNumber).whenComplete((targetGame, error) -> {
+                                if (error != null) {
+                                    gameLoadFailed(player, error);
+                                } else if (targetGame == null) {
                                     player.sendMessage(instance.messageGameNumberNotFound);
                                 } else {
                                     Scheduler.runTaskLater(plugin, () -> getPastResults(player, targetGame).show(player), 2, player);
                                 }
-                            } catch (Exception e) {
-                                player.sendMessage(instance.messageGameNumberNotFound);
-                            }
-                        });
+                            });
+                        } catch (Exception e) {
+                            player.sendMessage(instance.messageGameNumberNotFound);
+                        }
                         return Collections.singletonList(AnvilGUI.ResponseAction.close());
                     })
                     .open(player), 2, player);
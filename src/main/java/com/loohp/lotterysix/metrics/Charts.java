@@ -22,6 +22,8 @@ package com.loohp.lotterysix.metrics;
 
 import com.loohp.lotterysix.LotterySixPlugin;
 import com.loohp.lotterysix.game.lottery.CompletedLotterySixGame;
+import com.loohp.lotterysix.game.lottery.CompletedLotterySixGameIndex;
+import com.loohp.lotterysix.game.lottery.LazyCompletedLotterySixGameList;
 import com.loohp.lotterysix.game.lottery.PlayableLotterySixGame;
 import com.loohp.lotterysix.game.objects.PlayerBets;
 import com.loohp.lotterysix.game.objects.PrizeTier;
@@ -40,6 +42,15 @@ public class Charts {
         return games.isEmpty() ? Optional.empty() : Optional.of(games.get(0));
     }
 
+    private static Optional<CompletedLotterySixGameIndex> getLatestGameIndex() {
+        LazyCompletedLotterySixGameList games = LotterySixPlugin.getInstance().getCompletedGames();
+        return games.isEmpty() ? Optional.empty() : Optional.of(games.getIndex(0));
+    }
+
+    private static int getLatestWinnerCountForTier(PrizeTier prizeTier) {
+        return getLatestGameIndex().map(e -> (int) Math.ceil(e.hasSummary() ? e.getWinnerCountForTier(prizeTier) : LotterySixPlugin.getInstance().getCompletedGames().get(e).getWinnerCountForTier(prizeTier))).orElse(0);
+    }
+
     private static Optional<PlayableLotterySixGame> getCurrentGame() {
         return Optional.ofNullable(LotterySixPlugin.getInstance().getCurrentGame());
     }
@@ -49,49 +60,49 @@ public class Charts {
         metrics.addCustomChart(new Metrics.SingleLineChart("first_tier_winners", new Callable<Integer>() {
             @Override
             public Integer call() throws Exception {
-                return getLatestGame().map(e -> (int) Math.ceil(e.getWinnerCountForTier(PrizeTier.FIRST))).orElse(0);
+                return getLatestWinnerCountForTier(PrizeTier.FIRST);
             }
         }));
 
         metrics.addCustomChart(new Metrics.SingleLineChart("second_tier_winners", new Callable<Integer>() {
             @Override
             public Integer call() throws Exception {
-                return getLatestGame().map(e -> (int) Math.ceil(e.getWinnerCountForTier(PrizeTier.SECOND))).orElse(0);
+                return getLatestWinnerCountForTier(PrizeTier.SECOND);
             }
         }));
 
         metrics.addCustomChart(new Metrics.SingleLineChart("third_tier_winners", new Callable<Integer>() {
             @Override
             public Integer call() throws Exception {
-                return getLatestGame().map(e -> (int) Math.ceil(e.getWinnerCountForTier(PrizeTier.THIRD))).orElse(0);
+                return getLatestWinnerCountForTier(PrizeTier.THIRD);
             }
         }));
 
         metrics.addCustomChart(new Metrics.SingleLineChart("fourth_tier_winners", new Callable<Integer>() {
             @Override
             public Integer call() throws Exception {
-                return getLatestGame().map(e -> (int) Math.ceil(e.getWinnerCountForTier(PrizeTier.FOURTH))).orElse(0);
+                return getLatestWinnerCountForTier(PrizeTier.FOURTH);
             }
         }));
 
         metrics.addCustomChart(new Metrics.SingleLineChart("fifth_tier_winners", new Callable<Integer>() {
             @Override
             public Integer call() throws Exception {
-                return getLatestGame().map(e -> (int) Math.ceil(e.getWinnerCountForTier(PrizeTier.FIFTH))).orElse(0);
+                return getLatestWinnerCountForTier(PrizeTier.FIFTH);
             }
         }));
 
         metrics.addCustomChart(new Metrics.SingleLineChart("sixth_tier_winners", new Callable<Integer>() {
             @Override
             public Integer call() throws Exception {
-                return getLatestGame().map(e -> (int) Math.ceil(e.getWinnerCountForTier(PrizeTier.SIXTH))).orElse(0);
+                return getLatestWinnerCountForTier(PrizeTier.SIXTH);
             }
         }));
 
         metrics.addCustomChart(new Metrics.SingleLineChart("seventh_tier_winners", new Callable<Integer>() {
             @Override
             public Integer call() throws Exception {
-                return getLatestGame().map(e -> (int) Math.ceil(e.getWinnerCountForTier(PrizeTier.SEVENTH))).orElse(0);
+                return getLatestWinnerCountForTier(PrizeTier.SEVENTH);
             }
         }));
 
@@ -0,0 +1,187 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.pluginmessaging;
+
+import com.loohp.lotterysix.game.lottery.CompletedLotterySixGameIndex;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PastGameSyncSession {
+
+    public static final int BATCH_SIZE = 8;
+    public static final int WINDOW_SIZE = 4;
+    public static final long BATCH_TIMEOUT = 10000;
+    public static final long STALL_TIMEOUT = 30000;
+
+    public static int batchCount(int totalGames) {
+        return (totalGames + BATCH_SIZE - 1) / BATCH_SIZE;
+    }
+
+    private final int sessionId;
+    private final List<CompletedLotterySixGameIndex> games;
+    private final int totalGames;
+    private final int totalBatches;
+    private final long startTime;
+    private final Map<Integer, Long> inFlightBatches;
+    private final BitSet receivedBatches;
+    private int nextBatch;
+    private int completedBatches;
+    private int completedGames;
+    private volatile long lastUpdated;
+
+    public PastGameSyncSession(int sessionId, List<CompletedLotterySixGameIndex> games) {
+        this(sessionId, games, games.size(), batchCount(games.size()));
+    }
+
+    public PastGameSyncSession(int sessionId, int totalGames, int totalBatches) {
+        this(sessionId, Collections.emptyList(), totalGames, totalBatches);
+    }
+
+    private PastGameSyncSession(int sessionId, List<CompletedLotterySixGameIndex> games, int totalGames, int totalBatches) {
+        this.sessionId = sessionId;
+        this.games = games;
+        this.totalGames = totalGames;
+        this.totalBatches = totalBatches;
+        this.startTime = System.currentTimeMillis();
+        this.inFlightBatches = new HashMap<>();
+        this.receivedBatches = new BitSet();
+        this.nextBatch = 0;
+        this.completedBatches = 0;
+        this.completedGames = 0;
+        this.lastUpdated = startTime;
+    }
+
+    public int getSessionId() {
+        return sessionId;
+    }
+
+    public int getTotalGames() {
+        return totalGames;
+    }
+
+    public int getTotalBatches() {
+        return totalBatches;
+    }
+
+    public synchronized int getCompletedGames() {
+        return completedGames;
+    }
+
+    public synchronized int getCompletedBatches() {
+        return completedBatches;
+    }
+
+    public synchronized int getInFlightBatches() {
+        return inFlightBatches.size();
+    }
+
+    public synchronized double getProgress() {
+        return totalBatches == 0 ? 1 : (double) completedBatches / totalBatches;
+    }
+
+    public synchronized boolean isComplete() {
+        return completedBatches >= totalBatches;
+    }
+
+    public long getElapsedTime() {
+        return lastUpdated - startTime;
+    }
+
+    public boolean isStalled(long now) {
+        return now - lastUpdated > STALL_TIMEOUT;
+    }
+
+    private int batchSize(int batchIndex) {
+        return Math.min(BATCH_SIZE, totalGames - batchIndex * BATCH_SIZE);
+    }
+
+    private Batch toBatch(int batchIndex) {
+        int from = batchIndex * BATCH_SIZE;
+        return new Batch(batchIndex, games.subList(from, Math.min(from + BATCH_SIZE, games.size())));
+    }
+
+    public synchronized Batch pollBatch() {
+        long now = System.currentTimeMillis();
+        // batches that failed to send or were never acknowledged are resent before new ones
+        for (Map.Entry<Integer, Long> entry : inFlightBatches.entrySet()) {
+            if (now - entry.getValue() >= BATCH_TIMEOUT) {
+                entry.setValue(now);
+                return toBatch(entry.getKey());
+            }
+        }
+        if (inFlightBatches.size() >= WINDOW_SIZE || nextBatch >= totalBatches) {
+            return null;
+        }
+        int batchIndex = nextBatch++;
+        inFlightBatches.put(batchIndex, now);
+        return toBatch(batchIndex);
+    }
+
+    public synchronized void failed(int batchIndex) {
+        inFlightBatches.computeIfPresent(batchIndex, (k, v) -> 0L);
+    }
+
+    public synchronized boolean acknowledge(int batchIndex) {
+        if (inFlightBatches.remove(batchIndex) == null) {
+            return false;
+        }
+        completedBatches++;
+        completedGames += batchSize(batchIndex);
+        lastUpdated = System.currentTimeMillis();
+        return true;
+    }
+
+    public synchronized boolean received(int batchIndex, int gameCount) {
+        lastUpdated = System.currentTimeMillis();
+        if (batchIndex < 0 || batchIndex >= totalBatches || receivedBatches.get(batchIndex)) {
+            return false;
+        }
+        receivedBatches.set(batchIndex);
+        completedBatches++;
+        completedGames += gameCount;
+        return true;
+    }
+
+    public static class Batch {
+
+        private final int batchIndex;
+        private final List<CompletedLotterySixGameIndex> games;
+
+        private Batch(int batchIndex, List<CompletedLotterySixGameIndex> games) {
+            this.batchIndex = batchIndex;
+            this.games = games;
+        }
+
+        public int getBatchIndex() {
+            return batchIndex;
+        }
+
+        public List<CompletedLotterySixGameIndex> getGames() {
+            return games;
+        }
+
+    }
+
+}
\ No newline at end of file
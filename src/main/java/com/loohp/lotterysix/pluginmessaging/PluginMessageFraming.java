@@ -0,0 +1,315 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.pluginmessaging;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+public class PluginMessageFraming {
+
+    public static final int MAX_FRAME_PAYLOAD = 32700;
+    public static final int MAX_MESSAGE_LENGTH = 64 * 1024 * 1024;
+    public static final long PARTIAL_MESSAGE_TIMEOUT = 60000;
+    public static final int COMPRESSED_FLAG = 0x4000;
+
+    private static final int FLAG_END = 0x01;
+    private static final int FLAG_LENGTH = 0x02;
+    private static final int HEADER_SIZE = 7;
+    private static final int LENGTH_SIZE = 4;
+    private static final int INITIAL_PARTIAL_CAPACITY = MAX_FRAME_PAYLOAD * 2;
+
+    public static void writeFrames(int sequenceId, int packetId, byte[] data, Consumer<byte[]> sender) {
+        if (data.length > MAX_MESSAGE_LENGTH) {
+            throw new IllegalArgumentException("Plugin message of " + data.length + " bytes exceeds the maximum length of " + MAX_MESSAGE_LENGTH);
+        }
+        if (data.length <= MAX_FRAME_PAYLOAD) {
+            byte[] frame = new byte[HEADER_SIZE + data.length];
+            ByteBuffer.wrap(frame).putInt(sequenceId).putShort((short) packetId).put((byte) FLAG_END).put(data);
+            sender.accept(frame);
+            return;
+        }
+        for (int offset = 0; offset < data.length; offset += MAX_FRAME_PAYLOAD) {
+            int length = Math.min(MAX_FRAME_PAYLOAD, data.length - offset);
+            boolean first = offset == 0;
+            boolean end = offset + length == data.length;
+            byte[] frame = new byte[HEADER_SIZE + (first ? LENGTH_SIZE : 0) + length];
+            ByteBuffer buffer = ByteBuffer.wrap(frame).putInt(sequenceId).putShort((short) packetId).put((byte) ((end ? FLAG_END : 0) | (first ? FLAG_LENGTH : 0)));
+            if (first) {
+                buffer.putInt(data.length);
+            }
+            buffer.put(data, offset, length);
+            sender.accept(frame);
+        }
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                outputStream.write(buffer, 0, deflater.deflate(buffer));
+                if (outputStream.size() >= data.length) {
+                    return null;
+                }
+            }
+            return outputStream.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private final Map<SequenceKey, PartialMessage> incomingMessages;
+    private final AtomicLong bufferedBytes;
+    private final AtomicLong evictedMessages;
+    private final AtomicLong compressedMessages;
+    private final AtomicLong compressionInputBytes;
+    private final AtomicLong compressionOutputBytes;
+
+    public PluginMessageFraming() {
+        this.incomingMessages = new ConcurrentHashMap<>();
+        this.bufferedBytes = new AtomicLong();
+        this.evictedMessages = new AtomicLong();
+        this.compressedMessages = new AtomicLong();
+        this.compressionInputBytes = new AtomicLong();
+        this.compressionOutputBytes = new AtomicLong();
+    }
+
+    public void writeFrames(int sequenceId, int packetId, byte[] data, int compressionThreshold, Consumer<byte[]> sender) {
+        if (compressionThreshold >= 0 && data.length >= compressionThreshold) {
+            byte[] compressed = deflate(data);
+            if (compressed != null) {
+                compressedMessages.incrementAndGet();
+                compressionInputBytes.addAndGet(data.length);
+                compressionOutputBytes.addAndGet(compressed.length);
+                writeFrames(sequenceId, packetId | COMPRESSED_FLAG, compressed, sender);
+                return;
+            }
+        }
+        writeFrames(sequenceId, packetId, data, sender);
+    }
+
+    public Message accept(byte[] frame) throws IOException {
+        return accept(null, frame);
+    }
+
+    public Message accept(Object source, byte[] frame) throws IOException {
+        long now = System.currentTimeMillis();
+        evictExpired(now);
+
+        ByteBuffer buffer = ByteBuffer.wrap(frame);
+        int sequenceId = buffer.getInt();
+        int packetId = buffer.getShort();
+        int flags = buffer.get();
+        boolean end = (flags & FLAG_END) != 0;
+
+        SequenceKey key = new SequenceKey(source, sequenceId);
+        PartialMessage partial = incomingMessages.get(key);
+        if (partial == null) {
+            if (end) {
+                return new Message(sequenceId, packetId & ~COMPRESSED_FLAG, (packetId & COMPRESSED_FLAG) != 0, frame, buffer.position(), buffer.remaining());
+            }
+            int capacity = INITIAL_PARTIAL_CAPACITY;
+            boolean exact = (flags & FLAG_LENGTH) != 0;
+            if (exact) {
+                capacity = buffer.getInt();
+                if (capacity < buffer.remaining() || capacity > MAX_MESSAGE_LENGTH) {
+                    throw new IOException("Invalid plugin message length " + capacity + " for sequence " + sequenceId);
+                }
+            }
+            partial = new PartialMessage(new byte[capacity], exact, now);
+            incomingMessages.put(key, partial);
+            bufferedBytes.addAndGet(capacity);
+        }
+
+        int remaining = buffer.remaining();
+        if (partial.size + remaining > partial.data.length) {
+            if (partial.exact) {
+                discard(key, partial);
+                throw new IOException("Plugin message sequence " + sequenceId + " exceeded its declared length");
+            }
+            if (partial.size + remaining > MAX_MESSAGE_LENGTH) {
+                discard(key, partial);
+                throw new IOException("Plugin message sequence " + sequenceId + " exceeded the maximum length of " + MAX_MESSAGE_LENGTH);
+            }
+            int capacity = Math.min(MAX_MESSAGE_LENGTH, Math.max(partial.data.length * 2, partial.size + remaining));
+            bufferedBytes.addAndGet(capacity - partial.data.length);
+            partial.data = Arrays.copyOf(partial.data, capacity);
+        }
+        buffer.get(partial.data, partial.size, remaining);
+        partial.size += remaining;
+        partial.lastUpdated = now;
+
+        if (!end) {
+            return null;
+        }
+        discard(key, partial);
+        return new Message(sequenceId, packetId & ~COMPRESSED_FLAG, (packetId & COMPRESSED_FLAG) != 0, partial.data, 0, partial.size);
+    }
+
+    private void discard(SequenceKey key, PartialMessage partial) {
+        if (incomingMessages.remove(key, partial)) {
+            bufferedBytes.addAndGet(-partial.data.length);
+        }
+    }
+
+    public void evictExpired(long now) {
+        Iterator<Map.Entry<SequenceKey, PartialMessage>> itr = incomingMessages.entrySet().iterator();
+        while (itr.hasNext()) {
+            Map.Entry<SequenceKey, PartialMessage> entry = itr.next();
+            PartialMessage partial = entry.getValue();
+            if (now - partial.lastUpdated > PARTIAL_MESSAGE_TIMEOUT && incomingMessages.remove(entry.getKey(), partial)) {
+                bufferedBytes.addAndGet(-partial.data.length);
+                evictedMessages.incrementAndGet();
+            }
+        }
+    }
+
+    public int getPendingMessages() {
+        return incomingMessages.size();
+    }
+
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    public long getEvictedMessages() {
+        return evictedMessages.get();
+    }
+
+    public long getCompressedMessages() {
+        return compressedMessages.get();
+    }
+
+    public long getCompressionInputBytes() {
+        return compressionInputBytes.get();
+    }
+
+    public long getCompressionOutputBytes() {
+        return compressionOutputBytes.get();
+    }
+
+    public double getCompressionRatio() {
+        long input = compressionInputBytes.get();
+        return input == 0 ? 1 : (double) compressionOutputBytes.get() / input;
+    }
+
+    public static class Message {
+
+        private final int sequenceId;
+        private final int packetId;
+        private final boolean compressed;
+        private final byte[] data;
+        private final int offset;
+        private final int length;
+
+        private Message(int sequenceId, int packetId, boolean compressed, byte[] data, int offset, int length) {
+            this.sequenceId = sequenceId;
+            this.packetId = packetId;
+            this.compressed = compressed;
+            this.data = data;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        public int getSequenceId() {
+            return sequenceId;
+        }
+
+        public int getPacketId() {
+            return packetId;
+        }
+
+        public boolean isCompressed() {
+            return compressed;
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        public DataInputStream getInputStream() {
+            InputStream inputStream = new ByteArrayInputStream(data, offset, length);
+            if (compressed) {
+                inputStream = new BufferedInputStream(new InflaterInputStream(inputStream), 8192);
+            }
+            return new DataInputStream(inputStream);
+        }
+
+    }
+
+    private static class PartialMessage {
+
+        private final boolean exact;
+        private byte[] data;
+        private int size;
+        private volatile long lastUpdated;
+
+        private PartialMessage(byte[] data, boolean exact, long lastUpdated) {
+            this.data = data;
+            this.exact = exact;
+            this.lastUpdated = lastUpdated;
+        }
+
+    }
+
+    private static class SequenceKey {
+
+        private final Object source;
+        private final int sequenceId;
+
+        private SequenceKey(Object source, int sequenceId) {
+            this.source = source;
+            this.sequenceId = sequenceId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            SequenceKey that = (SequenceKey) o;
+            return sequenceId == that.sequenceId && Objects.equals(source, that.source);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(source, sequenceId);
+        }
+
+    }
+
+}
\ No newline at end of file
@@ -46,7 +46,6 @@ import com.loohp.lotterysix.game.objects.betnumbers.BetNumbers;
 import com.loohp.lotterysix.game.objects.betnumbers.BetNumbersBuilder;
 import com.loohp.lotterysix.game.objects.betnumbers.BetNumbersType;
 import com.loohp.lotterysix.game.player.LotteryPlayer;
-import com.loohp.lotterysix.utils.ArrayUtils;
 import com.loohp.lotterysix.utils.ChatColorUtils;
 import com.loohp.lotterysix.utils.DataTypeIO;
 import com.loohp.lotterysix.utils.LotteryUtils;
@@ -63,14 +62,12 @@ import org.bukkit.boss.BarStyle;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.messaging.PluginMessageListener;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -80,11 +77,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -94,6 +89,9 @@ import java.util.stream.Stream;
 public class PluginMessageHandler implements PluginMessageListener {
 
     private static final Gson GSON = new Gson();
+    private static final int CURRENT_GAME_NONE = 0;
+    private static final int CURRENT_GAME_SNAPSHOT = 1;
+    private static final int CURRENT_GAME_DELTA = 2;
 
     private static <T> Gson gsonOfInstance(T instance) {
         return GSON.newBuilder().registerTypeAdapter(instance.getClass(), (InstanceCreator<T>) type -> instance).create();
@@ -101,19 +99,41 @@ public class PluginMessageHandler implements PluginMessageListener {
 
     private final LotterySix instance;
 
-    private final Map<Integer, ByteArrayOutputStream> incomingMessages;
+    private final PluginMessageFraming framing;
     private final Random random;
     private final AtomicInteger sequenceCounter;
     private final AtomicInteger lastReceivedSequence;
     private final Executor executor;
+    private volatile UUID syncedGameId;
+    private volatile long syncedRevision;
+    private volatile int wireCodec;
+    private volatile boolean compression;
+    private volatile PastGameSyncSession pastGameSync;
+    private final Map<UUID, CompletedLotterySixGameIndex> pastGameSyncGames;
 
     public PluginMessageHandler(LotterySix instance) {
         this.instance = instance;
-        this.incomingMessages = new ConcurrentHashMap<>();
+        this.framing = new PluginMessageFraming();
         this.random = new Random();
         this.sequenceCounter = new AtomicInteger();
         this.lastReceivedSequence = new AtomicInteger();
         this.executor = Executors.newSingleThreadExecutor();
+        this.wireCodec = DataTypeIO.WIRE_CODEC_JSON;
+        this.compression = false;
+        this.pastGameSyncGames = new HashMap<>();
+    }
+
+    public PluginMessageFraming getFraming() {
+        return framing;
+    }
+
+    public PastGameSyncSession getPastGameSync() {
+        return pastGameSync;
+    }
+
+    public void resetWireCodec() {
+        wireCodec = DataTypeIO.WIRE_CODEC_JSON;
+        compression = false;
     }
 
     @SuppressWarnings("deprecation")
@@ -124,46 +144,25 @@ public class PluginMessageHandler implements PluginMessageListener {
                 return;
             }
 
-            byte[] packet = Arrays.copyOf(data, data.length);
-            DataInputStream inputStream = new DataInputStream(new ByteArrayInputStream(packet));
-
-            int sequenceId = inputStream.readInt();
-            int packetId = inputStream.readShort();
-            boolean end = inputStream.readBoolean();
-            ByteArrayOutputStream buffer = incomingMessages.get(sequenceId);
-            if (buffer == null) {
-                incomingMessages.putIfAbsent(sequenceId, buffer = new ByteArrayOutputStream());
-            }
-            byte[] b = new byte[1024];
-            int nRead;
-            while ((nRead = inputStream.read(b, 0, b.length)) != -1) {
-                buffer.write(b, 0, nRead);
-            }
-
-            if (!end) {
+            PluginMessageFraming.Message assembled = framing.accept(data);
+            if (assembled == null) {
                 return;
             }
-            incomingMessages.remove(sequenceId);
 
-            DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+            int sequenceId = assembled.getSequenceId();
+            int header = assembled.getPacketId();
+            int packetId = header & 0xFF;
+            int codec = (header >> 8) & 0xFF;
 
             executor.execute(() -> {
-                try {
+                try (DataInputStream in = assembled.getInputStream()) {
                     switch (packetId) {
                         case 0x00: { // Update Current Game Data
-                            if (in.readBoolean()) {
+                            int mode = in.readByte();
+                            if (mode == CURRENT_GAME_SNAPSHOT) {
                                 UUID gameId = DataTypeIO.readUUID(in);
-                                long dateTime = in.readLong();
-                                GameNumber gameNumber = DataTypeIO.readGameNumber(in);
-                                String specialName = in.readBoolean() ? DataTypeIO.readString(in, StandardCharsets.UTF_8) : null;
-                                int mapSize = in.readInt();
-                                Map<Integer, NumberStatistics> numberStatistics = new HashMap<>(mapSize);
-                                for (int i = 0; i < mapSize; i++) {
-                                    numberStatistics.put((int) in.readByte(), DataTypeIO.readNumberStatistics(in));
-                                }
-                                long carryOverFund = in.readLong();
-                                long lowestTopPlacesPrize = in.readLong();
-                                boolean isValid = in.readBoolean();
+                                long revision = in.readLong();
+                                PlayableLotterySixGame currentGame = readCurrentGameHeader(in, gameId);
 
                                 int listSize = in.readInt();
                                 Set<UUID> betIds = new HashSet<>(listSize);
@@ -171,33 +170,54 @@ public class PluginMessageHandler implements PluginMessageListener {
                                     betIds.add(DataTypeIO.readUUID(in));
                                 }
 
-                                PlayableLotterySixGame currentGame = instance.getCurrentGame();
-                                if (currentGame == null || !currentGame.getGameId().equals(gameId) || (isValid && !currentGame.isValid())) {
-                                    currentGame = PlayableLotterySixGame.createPresetGame(instance, gameId, gameNumber, dateTime, specialName, numberStatistics, carryOverFund, lowestTopPlacesPrize, Collections.emptyList());
-                                    if (!isValid) {
-                                        currentGame.markInvalid();
-                                    }
-                                    instance.setCurrentGame(currentGame);
-                                } else {
-                                    currentGame.setDatetime(dateTime, gameNumber);
-                                    currentGame.setSpecialName(specialName);
-                                    currentGame.setNumberStatistics(numberStatistics);
-                                    currentGame.setCarryOverFund(carryOverFund);
-                                    currentGame.setLowestTopPlacesPrize(lowestTopPlacesPrize);
-                                    if (!isValid) {
-                                        currentGame.markInvalid();
-                                    }
+                                if (!betIds.containsAll(currentGame.getBetIds())) {
+                                    currentGame.invalidateBetsIf(bet -> !betIds.contains(bet.getBetId()), false);
                                 }
-
                                 betIds.removeAll(currentGame.getBetIds());
                                 if (!betIds.isEmpty()) {
                                     requestCurrentGameBets(gameId, betIds);
                                 }
+                                syncedGameId = gameId;
+                                syncedRevision = revision;
+                            } else if (mode == CURRENT_GAME_DELTA) {
+                                UUID gameId = DataTypeIO.readUUID(in);
+                                long fromRevision = in.readLong();
+                                long toRevision = in.readLong();
+                                PlayableLotterySixGame currentGame = instance.getCurrentGame();
+                                if (currentGame == null || !currentGame.getGameId().equals(gameId) || !gameId.equals(syncedGameId) || fromRevision != syncedRevision) {
+                                    syncedGameId = null;
+                                    requestCurrentGameSnapshot();
+                                    break;
+                                }
+                                if (in.readBoolean() && readCurrentGameHeader(in, gameId) != currentGame) {
+                                    // the game was recreated without its bets, a delta cannot refill them
+                                    syncedGameId = null;
+                                    requestCurrentGameSnapshot();
+                                    break;
+                                }
+                                int size = in.readInt();
+                                Set<UUID> removedBetIds = new HashSet<>();
+                                for (int i = 0; i < size; i++) {
+                                    if (in.readBoolean()) {
+                                        PlayerBets bet = DataTypeIO.readWirePlayerBets(in, codec);
+                                        removedBetIds.remove(bet.getBetId());
+                                        if (currentGame.getBet(bet.getBetId()) == null) {
+                                            currentGame.addBet(bet);
+                                        }
+                                    } else {
+                                        removedBetIds.add(DataTypeIO.readUUID(in));
+                                    }
+                                }
+                                if (!removedBetIds.isEmpty()) {
+                                    currentGame.invalidateBetsIf(bet -> removedBetIds.contains(bet.getBetId()), false);
+                                }
+                                syncedRevision = toRevision;
                             } else {
                                 if (instance.getCurrentGame() != null) {
                                     instance.getCurrentGame().markInvalid();
                                 }
                                 instance.setCurrentGame(null);
+                                syncedGameId = null;
                             }
                             instance.requestSave(true);
                             break;
@@ -209,11 +229,16 @@ public class PluginMessageHandler implements PluginMessageListener {
                             }
                             UUID gameId = DataTypeIO.readUUID(in);
                             if (lastGame != null && lastGame.getGameId().equals(gameId)) {
-                                gsonOfInstance(lastGame).fromJson(DataTypeIO.readString(in, StandardCharsets.UTF_8), CompletedLotterySixGame.class);
-                                instance.getCompletedGames().setGameDirty(lastGame.getGameId());
+                                if (codec == DataTypeIO.WIRE_CODEC_JSON) {
+                                    gsonOfInstance(lastGame).fromJson(DataTypeIO.readString(in, StandardCharsets.UTF_8), CompletedLotterySixGame.class);
+                                    instance.getCompletedGames().setGameDirty(lastGame.getGameId());
+                                } else {
+                                    instance.getCompletedGames().set(0, DataTypeIO.readWireCompletedGame(in, codec));
+                                }
                             } else {
-                                CompletedLotterySixGame game = GSON.fromJson(DataTypeIO.readString(in, StandardCharsets.UTF_8), CompletedLotterySixGame.class);
+                                CompletedLotterySixGame game = DataTypeIO.readWireCompletedGame(in, codec);
                                 instance.setLastGame(game);
+                                pastGameSyncGames.put(game.getGameId(), game.toGameIndex());
                             }
                             instance.requestSave(false);
                             break;
@@ -293,7 +318,7 @@ public class PluginMessageHandler implements PluginMessageListener {
                             if (player != null) {
                                 long price = in.readLong();
                                 AddBetResult result = AddBetResult.values()[in.readInt()];
-                                BetNumbers numbers = GSON.fromJson(DataTypeIO.readString(in, StandardCharsets.UTF_8), BetNumbers.class);
+                                BetNumbers numbers = DataTypeIO.readWireBetNumbers(in, codec);
                                 Bukkit.getPluginManager().callEvent(new PlayerBetEvent(player, numbers, price, result));
                             }
                             break;
@@ -323,42 +348,32 @@ public class PluginMessageHandler implements PluginMessageListener {
                             respondPastGameSyncCheck();
                             break;
                         }
-                        case 0x0C: { // Past Games Sync Check Missing
-                            boolean shouldSave = false;
+                        case 0x0C: { // Past Games Sync Batch
+                            int sessionId = in.readInt();
+                            int batchIndex = in.readInt();
                             int size = in.readInt();
-                            if (size > 0) {
-                                for (int i = 0; i < size; i++) {
-                                    UUID gameId = DataTypeIO.readUUID(in);
-                                    Optional<CompletedLotterySixGameIndex> optGame = instance.getCompletedGames().indexStream().filter(each -> each.getGameId().equals(gameId)).findFirst();
-                                    if (optGame.isPresent()) {
-                                        CompletedLotterySixGame game = instance.getCompletedGames().get(optGame.get());
-                                        gsonOfInstance(game).fromJson(DataTypeIO.readString(in, StandardCharsets.UTF_8), CompletedLotterySixGame.class);
-                                        instance.getCompletedGames().setGameDirty(game.getGameId());
-                                    } else {
-                                        instance.getCompletedGames().add(GSON.fromJson(DataTypeIO.readString(in, StandardCharsets.UTF_8), CompletedLotterySixGame.class));
-                                    }
-                                }
-                                if (instance.getCompletedGames().size() > 0) {
-                                    instance.getCompletedGames().indexSort(Comparator.reverseOrder());
-                                }
-                                shouldSave = true;
-                            }
-                            size = in.readInt();
-                            if (size > 0) {
-                                Set<UUID> notExist = new HashSet<>();
-                                for (int i = 0; i < size; i++) {
-                                    notExist.add(DataTypeIO.readUUID(in));
-                                }
-                                for (CompletedLotterySixGameIndex gameIndex : instance.getCompletedGames().indexIterable()) {
-                                    if (notExist.contains(gameIndex.getGameId())) {
-                                        instance.getCompletedGames().remove(gameIndex);
+                            for (int i = 0; i < size; i++) {
+                                UUID gameId = DataTypeIO.readUUID(in);
+                                CompletedLotterySixGameIndex existingGame = pastGameSyncGames.get(gameId);
+                                if (existingGame != null && codec == DataTypeIO.WIRE_CODEC_JSON) {
+                                    CompletedLotterySixGame game = instance.getCompletedGames().get(existingGame);
+                                    gsonOfInstance(game).fromJson(DataTypeIO.readString(in, StandardCharsets.UTF_8), CompletedLotterySixGame.class);
+                                    instance.getCompletedGames().setGameDirty(game.getGameId());
+                                } else {
+                                    CompletedLotterySixGame game = DataTypeIO.readWireCompletedGame(in, codec);
+                                    if (existingGame != null) {
+                                        instance.getCompletedGames().remove(existingGame);
                                     }
+                                    // batches arrive newest first, so this is almost always an append to the end
+                                    instance.getCompletedGames().addSorted(game, Comparator.reverseOrder());
+                                    pastGameSyncGames.put(gameId, game.toGameIndex());
                                 }
-                                shouldSave = true;
                             }
-                            if (shouldSave) {
+                            PastGameSyncSession session = pastGameSync;
+                            if (session != null && session.getSessionId() == sessionId && session.received(batchIndex, size) && session.isComplete()) {
                                 instance.requestSave(false);
                             }
+                            acknowledgePastGameSyncBatch(sessionId, batchIndex);
                             break;
                         }
                         case 0x0D: { // Open Main Menu
@@ -437,6 +452,13 @@ public class PluginMessageHandler implements PluginMessageListener {
                             UUID uuid = DataTypeIO.readUUID(in);
                             LotteryPlayer lotteryPlayer = instance.getLotteryPlayerManager().getLotteryPlayer(uuid);
 
+                            if (codec != DataTypeIO.WIRE_CODEC_JSON) {
+                                Map<PlayerPreferenceKey, Object> preferences = DataTypeIO.readPlayerPreferences(in);
+                                Map<PlayerStatsKey, Object> stats = DataTypeIO.readPlayerStats(in);
+                                lotteryPlayer.bulkSet(preferences, stats, DataTypeIO.readPlayerBetsList(in));
+                                break;
+                            }
+
                             JsonObject json = GSON.fromJson(DataTypeIO.readString(in, StandardCharsets.UTF_8), JsonObject.class);
 
                             Map<PlayerPreferenceKey, Object> preferences = new EnumMap<>(PlayerPreferenceKey.class);
@@ -508,7 +530,7 @@ public class PluginMessageHandler implements PluginMessageListener {
                             if (game != null && game.getGameId().equals(gameId)) {
                                 int size = in.readInt();
                                 for (int i = 0; i < size; i++) {
-                                    PlayerBets bet = GSON.fromJson(DataTypeIO.readString(in, StandardCharsets.UTF_8), PlayerBets.class);
+                                    PlayerBets bet = DataTypeIO.readWirePlayerBets(in, codec);
                                     if (game.getBet(bet.getBetId()) == null) {
                                         game.addBet(bet);
                                     }
@@ -516,6 +538,40 @@ public class PluginMessageHandler implements PluginMessageListener {
                             }
                             break;
                         }
+                        case 0x13: { // Wire Codec Handshake
+                            wireCodec = DataTypeIO.negotiateWireCodec(in.readInt());
+                            compression = in.readBoolean() && instance.pluginMessageCompressionThreshold >= 0;
+                            respondWireCodecHandshake();
+                            break;
+                        }
+                        case 0x14: { // Past Games Sync Begin
+                            int sessionId = in.readInt();
+                            int totalGames = in.readInt();
+                            int totalBatches = in.readInt();
+                            int size = in.readInt();
+                            if (size > 0) {
+                                Set<UUID> notExist = new HashSet<>();
+                                for (int i = 0; i < size; i++) {
+                                    notExist.add(DataTypeIO.readUUID(in));
+                                }
+                                for (CompletedLotterySixGameIndex gameIndex : instance.getCompletedGames().indexIterable()) {
+                                    if (notExist.contains(gameIndex.getGameId())) {
+                                        instance.getCompletedGames().remove(gameIndex);
+                                    }
+                                }
+                                instance.requestSave(false);
+                            }
+                            PastGameSyncSession previous = pastGameSync;
+                            if (previous != null && previous.getCompletedBatches() > 0 && !previous.isComplete()) {
+                                instance.requestSave(false);
+                            }
+                            pastGameSyncGames.clear();
+                            for (CompletedLotterySixGameIndex gameIndex : instance.getCompletedGames().indexIterable()) {
+                                pastGameSyncGames.put(gameIndex.getGameId(), gameIndex);
+                            }
+                            pastGameSync = new PastGameSyncSession(sessionId, totalGames, totalBatches);
+                            break;
+                        }
                     }
                     lastReceivedSequence.updateAndGet(i -> Math.max(i, sequenceId));
                 } catch (IOException e) {
@@ -527,7 +583,44 @@ public class PluginMessageHandler implements PluginMessageListener {
         }
     }
 
+    private PlayableLotterySixGame readCurrentGameHeader(DataInputStream in, UUID gameId) throws IOException {
+        long dateTime = in.readLong();
+        GameNumber gameNumber = DataTypeIO.readGameNumber(in);
+        String specialName = in.readBoolean() ? DataTypeIO.readString(in, StandardCharsets.UTF_8) : null;
+        int mapSize = in.readInt();
+        Map<Integer, NumberStatistics> numberStatistics = new HashMap<>(mapSize);
+        for (int i = 0; i < mapSize; i++) {
+            numberStatistics.put((int) in.readByte(), DataTypeIO.readNumberStatistics(in));
+        }
+        long carryOverFund = in.readLong();
+        long lowestTopPlacesPrize = in.readLong();
+        boolean isValid = in.readBoolean();
+
+        PlayableLotterySixGame currentGame = instance.getCurrentGame();
+        if (currentGame == null || !currentGame.getGameId().equals(gameId) || (isValid && !currentGame.isValid())) {
+            currentGame = PlayableLotterySixGame.createPresetGame(instance, gameId, gameNumber, dateTime, specialName, numberStatistics, carryOverFund, lowestTopPlacesPrize, Collections.emptyList());
+            if (!isValid) {
+                currentGame.markInvalid();
+            }
+            instance.setCurrentGame(currentGame);
+        } else {
+            currentGame.setDatetime(dateTime, gameNumber);
+            currentGame.setSpecialName(specialName);
+            currentGame.setNumberStatistics(numberStatistics);
+            currentGame.setCarryOverFund(carryOverFund);
+            currentGame.setLowestTopPlacesPrize(lowestTopPlacesPrize);
+            if (!isValid) {
+                currentGame.markInvalid();
+            }
+        }
+        return currentGame;
+    }
+
     private void sendData(int packetId, byte[] data) {
+        sendData(packetId, DataTypeIO.WIRE_CODEC_JSON, data);
+    }
+
+    private void sendData(int packetId, int codec, byte[] data) {
         Scheduler.runTaskAsynchronously(LotterySixPlugin.plugin, () -> {
             Collection<? extends Player> players = Bukkit.getOnlinePlayers();
             if (players.isEmpty()) {
@@ -536,21 +629,8 @@ public class PluginMessageHandler implements PluginMessageListener {
             Player player = players.stream().skip(random.nextInt(players.size())).findAny().get();
             int sequenceId = sequenceCounter.getAndIncrement();
             try {
-                byte[][] dataArray = ArrayUtils.divideArray(data, 32700);
-
-                for (int i = 0; i < dataArray.length; i++) {
-                    byte[] chunk = dataArray[i];
-
-                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-                    DataOutputStream out = new DataOutputStream(outputStream);
-                    out.writeInt(sequenceId);
-
-                    out.writeShort(packetId);
-                    out.writeBoolean(i == (dataArray.length - 1));
-
-                    out.write(chunk);
-                    player.sendPluginMessage(LotterySixPlugin.plugin, "lotterysix:main", outputStream.toByteArray());
-                }
+                int compressionThreshold = compression ? instance.pluginMessageCompressionThreshold : -1;
+                framing.writeFrames(sequenceId, packetId | (codec << 8), data, compressionThreshold, frame -> player.sendPluginMessage(LotterySixPlugin.plugin, "lotterysix:main", frame));
             } catch (Exception e) {
                 e.printStackTrace();
             }
@@ -563,6 +643,7 @@ public class PluginMessageHandler implements PluginMessageListener {
 
     public void requestAddBet(String name, UUID player, long bet, BetUnitType unitType, Collection<BetNumbers> chosenNumbers, int multipleDraw) {
         try {
+            int codec = wireCodec;
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             DataOutputStream out = new DataOutputStream(outputStream);
             DataTypeIO.writeString(out, name, StandardCharsets.UTF_8);
@@ -571,10 +652,10 @@ public class PluginMessageHandler implements PluginMessageListener {
             out.writeInt(unitType.ordinal());
             out.writeInt(chosenNumbers.size());
             for (BetNumbers numbers : chosenNumbers) {
-                DataTypeIO.writeString(out, GSON.toJson(numbers), StandardCharsets.UTF_8);
+                DataTypeIO.writeWireBetNumbers(out, numbers, codec);
             }
             out.writeInt(multipleDraw);
-            sendData(0x00, outputStream.toByteArray());
+            sendData(0x00, codec, outputStream.toByteArray());
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -606,6 +687,18 @@ public class PluginMessageHandler implements PluginMessageListener {
         }
     }
 
+    public void acknowledgePastGameSyncBatch(int sessionId, int batchIndex) {
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(outputStream);
+            out.writeInt(sessionId);
+            out.writeInt(batchIndex);
+            sendData(0x0A, outputStream.toByteArray());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
     public void updatePlayerPreference(LotteryPlayer player, PlayerPreferenceKey key, Object value) {
         try {
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
@@ -633,12 +726,13 @@ public class PluginMessageHandler implements PluginMessageListener {
 
     public void updatePlayerStats(LotteryPlayer player, PlayerStatsKey key, Object value) {
         try {
+            int codec = wireCodec;
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             DataOutputStream out = new DataOutputStream(outputStream);
             DataTypeIO.writeUUID(out, player.getPlayer());
             out.writeInt(key.ordinal());
-            DataTypeIO.writeString(out, GSON.toJson(value, key.getValueTypeClass()), StandardCharsets.UTF_8);
-            sendData(0x05, outputStream.toByteArray());
+            DataTypeIO.writeWireStatsValue(out, key, value, codec);
+            sendData(0x05, codec, outputStream.toByteArray());
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -670,4 +764,20 @@ public class PluginMessageHandler implements PluginMessageListener {
         }
     }
 
+    public void requestCurrentGameSnapshot() {
+        sendData(0x08, new byte[0]);
+    }
+
+    public void respondWireCodecHandshake() {
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(outputStream);
+            out.writeInt(DataTypeIO.WIRE_CODEC_VERSION);
+            out.writeBoolean(instance.pluginMessageCompressionThreshold >= 0);
+            sendData(0x09, outputStream.toByteArray());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
 }
@@ -22,9 +22,11 @@ package com.loohp.lotterysix.proxy.bungee;
 
 import com.cronutils.model.Cron;
 import com.loohp.lotterysix.game.lottery.PlayableLotterySixGame;
+import com.loohp.lotterysix.game.objects.ArchiveFormat;
 import com.loohp.lotterysix.game.objects.PlayerBets;
 import com.loohp.lotterysix.game.objects.PlayerPreferenceKey;
 import com.loohp.lotterysix.game.objects.PlayerStatsKey;
+import com.loohp.lotterysix.game.objects.PlayerStorageType;
 import com.loohp.lotterysix.game.objects.WinningNumbers;
 import com.loohp.lotterysix.game.player.LotteryPlayer;
 import com.loohp.lotterysix.proxy.bungee.utils.PlayerUtilsBungee;
@@ -49,6 +51,8 @@ import java.util.Timer;
 import java.util.TimerTask;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 public class CommandsBungee extends Command implements TabExecutor {
 
@@ -397,6 +401,57 @@ public class CommandsBungee extends Command implements TabExecutor {
                             }
                         }
                         DebugBungee.debugLotteryPlayer(sender, PlayerUtilsBungee.getPlayerName(uuid), uuid, maxPastGames);
+                    } else {
+                        DebugBungee.debugCompletedGameCache(sender);
+                        DebugBungee.debugPluginMessaging(sender);
+                    }
+                } else {
+                    sender.sendMessage(LotterySixBungee.getInstance().messageNoPermission);
+                }
+                return;
+            } else if (args[0].equalsIgnoreCase("migratearchives")) {
+                if (sender.hasPermission("lotterysix.migratearchives")) {
+                    if (args.length > 1) {
+                        ArchiveFormat format;
+                        try {
+                            format = ArchiveFormat.fromName(args[1].toUpperCase());
+                        } catch (IllegalArgumentException e) {
+                            sender.sendMessage(LotterySixBungee.getInstance().messageInvalidUsage);
+                            return;
+                        }
+                        Future<Integer> future = LotterySixBungee.getInstance().migrateArchives(format);
+                        new Thread(() -> {
+                            try {
+                                sender.sendMessage(ChatColor.GREEN + "[LotterySix] Migrated " + future.get() + " past game archives to " + format.name());
+                            } catch (InterruptedException | ExecutionException e) {
+                                e.printStackTrace();
+                            }
+                        }).start();
+                    } else {
+                        sender.sendMessage(LotterySixBungee.getInstance().messageInvalidUsage);
+                    }
+                } else {
+                    sender.sendMessage(LotterySixBungee.getInstance().messageNoPermission);
+                }
+                return;
+            } else if (args[0].equalsIgnoreCase("migrateplayers")) {
+                if (sender.hasPermission("lotterysix.migrateplayers")) {
+                    if (args.length > 1) {
+                        PlayerStorageType type;
+                        try {
+                            type = PlayerStorageType.fromName(args[1].toUpperCase());
+                        } catch (IllegalArgumentException e) {
+                            sender.sendMessage(LotterySixBungee.getInstance().messageInvalidUsage);
+                            return;
+                        }
+                        Future<Integer> future = LotterySixBungee.getInstance().migratePlayers(type);
+                        new Thread(() -> {
+                            try {
+                                sender.sendMessage(ChatColor.GREEN + "[LotterySix] Migrated " + future.get() + " players to " + type.name());
+                            } catch (InterruptedException | ExecutionException e) {
+                                e.printStackTrace();
+                            }
+                        }).start();
                     } else {
                         sender.sendMessage(LotterySixBungee.getInstance().messageInvalidUsage);
                     }
@@ -489,6 +544,12 @@ public class CommandsBungee extends Command implements TabExecutor {
                 if (sender.hasPermission("lotterysix.invalidatebets")) {
                     tab.add("invalidatebets");
                 }
+                if (sender.hasPermission("lotterysix.migratearchives")) {
+                    tab.add("migratearchives");
+                }
+                if (sender.hasPermission("lotterysix.migrateplayers")) {
+                    tab.add("migrateplayers");
+                }
                 return tab;
             case 1:
                 if (sender.hasPermission("lotterysix.reload")) {
@@ -556,6 +617,16 @@ public class CommandsBungee extends Command implements TabExecutor {
                         tab.add("invalidatebets");
                     }
                 }
+                if (sender.hasPermission("lotterysix.migratearchives")) {
+                    if ("migratearchives".startsWith(args[0].toLowerCase())) {
+                        tab.add("migratearchives");
+                    }
+                }
+                if (sender.hasPermission("lotterysix.migrateplayers")) {
+                    if ("migrateplayers".startsWith(args[0].toLowerCase())) {
+                        tab.add("migrateplayers");
+                    }
+                }
                 return tab;
             case 2:
                 if (sender.hasPermission("lotterysix.balance")) {
@@ -630,6 +701,26 @@ public class CommandsBungee extends Command implements TabExecutor {
                         }
                     }
                 }
+                if (sender.hasPermission("lotterysix.migratearchives")) {
+                    if ("migratearchives".equalsIgnoreCase(args[0])) {
+                        for (ArchiveFormat format : ArchiveFormat.values()) {
+                            String name = format.name().toLowerCase();
+                            if (name.startsWith(args[1].toLowerCase())) {
+                                tab.add(name);
+                            }
+                        }
+                    }
+                }
+                if (sender.hasPermission("lotterysix.migrateplayers")) {
+                    if ("migrateplayers".equalsIgnoreCase(args[0])) {
+                        for (PlayerStorageType type : PlayerStorageType.values()) {
+                            String name = type.name().toLowerCase();
+                            if (name.startsWith(args[1].toLowerCase())) {
+                                tab.add(name);
+                            }
+                        }
+                    }
+                }
                 if (sender.hasPermission("lotterysix.invalidatebets")) {
                     if ("invalidatebets".equalsIgnoreCase(args[0])) {
                         if ("player".startsWith(args[1].toLowerCase())) {
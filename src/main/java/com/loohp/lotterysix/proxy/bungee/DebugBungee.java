@@ -21,22 +21,27 @@
 package com.loohp.lotterysix.proxy.bungee;
 
 import com.loohp.lotterysix.game.lottery.CompletedLotterySixGame;
+import com.loohp.lotterysix.game.lottery.CompletedLotterySixGameCache;
 import com.loohp.lotterysix.game.lottery.PlayableLotterySixGame;
 import com.loohp.lotterysix.game.objects.PlayerBets;
 import com.loohp.lotterysix.game.objects.PlayerPreferenceKey;
 import com.loohp.lotterysix.game.objects.PlayerStatsKey;
 import com.loohp.lotterysix.game.objects.PlayerWinnings;
 import com.loohp.lotterysix.game.player.LotteryPlayer;
+import com.loohp.lotterysix.pluginmessaging.PastGameSyncSession;
+import com.loohp.lotterysix.pluginmessaging.PluginMessageFraming;
 import com.loohp.lotterysix.utils.StringUtils;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.ProxyServer;
+import net.md_5.bungee.api.config.ServerInfo;
 import net.md_5.bungee.api.event.ServerSwitchEvent;
 import net.md_5.bungee.api.plugin.Listener;
 import net.md_5.bungee.event.EventHandler;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -51,6 +56,35 @@ public class DebugBungee implements Listener {
         }, 100, TimeUnit.MILLISECONDS);
     }
 
+    @SuppressWarnings("deprecation")
+    public static void debugCompletedGameCache(CommandSender sender) {
+        CompletedLotterySixGameCache cache = LotterySixBungee.getInstance().getCompletedGames().getCache();
+        sender.sendMessage(ChatColor.AQUA + "LotterySix Past Games Cache ----");
+        sender.sendMessage(ChatColor.GREEN + "Loaded Games: " + cache.size() + " (" + StringUtils.formatComma(cache.getWeight() / 1024) + " KB / " + StringUtils.formatComma(cache.getMaximumWeight() / 1024) + " KB)");
+        sender.sendMessage(ChatColor.GREEN + "Soft Referenced Games: " + (cache.isSoftReferences() ? cache.softSize() : "Disabled"));
+        sender.sendMessage(ChatColor.YELLOW + "Hits: " + cache.getHitCount() + " (Soft: " + cache.getSoftHitCount() + ")");
+        sender.sendMessage(ChatColor.YELLOW + "Misses: " + cache.getMissCount());
+        sender.sendMessage(ChatColor.YELLOW + "Hit Rate: " + String.format("%.2f", cache.getHitRate() * 100) + "%");
+        sender.sendMessage(ChatColor.YELLOW + "Loads: " + cache.getLoadCount() + " (Average " + String.format("%.2f", cache.getAverageLoadPenalty() / 1000000) + " ms)");
+        sender.sendMessage(ChatColor.YELLOW + "Evictions: " + cache.getEvictionCount());
+        sender.sendMessage(ChatColor.YELLOW + "Prefetched: " + cache.getPrefetchCount());
+    }
+
+    @SuppressWarnings("deprecation")
+    public static void debugPluginMessaging(CommandSender sender) {
+        PluginMessageFraming framing = LotterySixBungee.getPluginMessageHandler().getFraming();
+        sender.sendMessage(ChatColor.AQUA + "LotterySix Plugin Messaging ----");
+        sender.sendMessage(ChatColor.GREEN + "Pending Messages: " + framing.getPendingMessages() + " (" + StringUtils.formatComma(framing.getBufferedBytes() / 1024) + " KB)");
+        sender.sendMessage(ChatColor.YELLOW + "Expired Partial Messages: " + framing.getEvictedMessages());
+        Map<ServerInfo, PastGameSyncSession> sessions = LotterySixBungee.getPluginMessageHandler().getPastGameSyncSessions();
+        sender.sendMessage(ChatColor.GREEN + "Past Games Resync: " + (sessions.isEmpty() ? "None" : sessions.size() + " Server(s)"));
+        for (Map.Entry<ServerInfo, PastGameSyncSession> entry : sessions.entrySet()) {
+            PastGameSyncSession session = entry.getValue();
+            sender.sendMessage(ChatColor.GREEN + "- " + entry.getKey().getName() + ": " + session.getCompletedGames() + " / " + session.getTotalGames() + " Games (" + String.format("%.2f", session.getProgress() * 100) + "%, " + session.getInFlightBatches() + " Batches In Flight)");
+        }
+        sender.sendMessage(ChatColor.YELLOW + "Compressed Messages: " + framing.getCompressedMessages() + " (" + StringUtils.formatComma(framing.getCompressionInputBytes() / 1024) + " KB -> " + StringUtils.formatComma(framing.getCompressionOutputBytes() / 1024) + " KB, Ratio " + String.format("%.2f", framing.getCompressionRatio() * 100) + "%)");
+    }
+
     @SuppressWarnings("deprecation")
     public static void debugLotteryPlayer(CommandSender sender, String name, UUID uuid, int maxPastGames) {
         sender.sendMessage(ChatColor.AQUA + "LotterySix Player Info ----");
@@ -137,6 +137,7 @@ public class LotterySixBungee extends Plugin implements Listener {
             public void run() {
                 pluginMessageBungee.updateCurrentGameData();
                 pluginMessageBungee.updateLockState(instance.isGameLocked());
+                pluginMessageBungee.resendPastGameSyncBatches();
             }
         }, 0, 10000);
 
@@ -242,6 +243,7 @@ public class LotterySixBungee extends Plugin implements Listener {
                 if (player.getServer() != null) {
                     LotteryPlayer lotteryPlayer = instance.getLotteryPlayerManager().getLotteryPlayer(player.getUniqueId());
                     notifyOfflineBalanceChange(lotteryPlayer);
+                    pluginMessageBungee.requestWireCodecHandshake(event.getServer().getInfo());
                     pluginMessageBungee.updateCurrentGameData(event.getServer().getInfo());
                     pluginMessageBungee.requestPastGameSyncCheck(event.getServer().getInfo());
                     pluginMessageBungee.syncPlayerData(lotteryPlayer);
@@ -21,16 +21,20 @@
 package com.loohp.lotterysix.proxy.velocity;
 
 import com.loohp.lotterysix.game.lottery.CompletedLotterySixGame;
+import com.loohp.lotterysix.game.lottery.CompletedLotterySixGameCache;
 import com.loohp.lotterysix.game.lottery.PlayableLotterySixGame;
 import com.loohp.lotterysix.game.objects.PlayerBets;
 import com.loohp.lotterysix.game.objects.PlayerPreferenceKey;
 import com.loohp.lotterysix.game.objects.PlayerStatsKey;
 import com.loohp.lotterysix.game.objects.PlayerWinnings;
 import com.loohp.lotterysix.game.player.LotteryPlayer;
+import com.loohp.lotterysix.pluginmessaging.PastGameSyncSession;
+import com.loohp.lotterysix.pluginmessaging.PluginMessageFraming;
 import com.loohp.lotterysix.utils.StringUtils;
 import com.velocitypowered.api.command.CommandSource;
 import com.velocitypowered.api.event.Subscribe;
 import com.velocitypowered.api.event.player.ServerPostConnectEvent;
+import com.velocitypowered.api.proxy.server.RegisteredServer;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
@@ -38,6 +42,7 @@ import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class DebugVelocity {
@@ -51,6 +56,33 @@ public class DebugVelocity {
         });
     }
 
+    public static void debugCompletedGameCache(CommandSource sender) {
+        CompletedLotterySixGameCache cache = LotterySixVelocity.getInstance().getCompletedGames().getCache();
+        sender.sendMessage(m(NamedTextColor.AQUA, "LotterySix Past Games Cache ----"));
+        sender.sendMessage(m(NamedTextColor.GREEN, "Loaded Games: " + cache.size() + " (" + StringUtils.formatComma(cache.getWeight() / 1024) + " KB / " + StringUtils.formatComma(cache.getMaximumWeight() / 1024) + " KB)"));
+        sender.sendMessage(m(NamedTextColor.GREEN, "Soft Referenced Games: " + (cache.isSoftReferences() ? cache.softSize() : "Disabled")));
+        sender.sendMessage(m(NamedTextColor.YELLOW, "Hits: " + cache.getHitCount() + " (Soft: " + cache.getSoftHitCount() + ")"));
+        sender.sendMessage(m(NamedTextColor.YELLOW, "Misses: " + cache.getMissCount()));
+        sender.sendMessage(m(NamedTextColor.YELLOW, "Hit Rate: " + String.format("%.2f", cache.getHitRate() * 100) + "%"));
+        sender.sendMessage(m(NamedTextColor.YELLOW, "Loads: " + cache.getLoadCount() + " (Average " + String.format("%.2f", cache.getAverageLoadPenalty() / 1000000) + " ms)"));
+        sender.sendMessage(m(NamedTextColor.YELLOW, "Evictions: " + cache.getEvictionCount()));
+        sender.sendMessage(m(NamedTextColor.YELLOW, "Prefetched: " + cache.getPrefetchCount()));
+    }
+
+    public static void debugPluginMessaging(CommandSource sender) {
+        PluginMessageFraming framing = LotterySixVelocity.getPluginMessageHandler().getFraming();
+        sender.sendMessage(m(NamedTextColor.AQUA, "LotterySix Plugin Messaging ----"));
+        sender.sendMessage(m(NamedTextColor.GREEN, "Pending Messages: " + framing.getPendingMessages() + " (" + StringUtils.formatComma(framing.getBufferedBytes() / 1024) + " KB)"));
+        sender.sendMessage(m(NamedTextColor.YELLOW, "Expired Partial Messages: " + framing.getEvictedMessages()));
+        Map<RegisteredServer, PastGameSyncSession> sessions = LotterySixVelocity.getPluginMessageHandler().getPastGameSyncSessions();
+        sender.sendMessage(m(NamedTextColor.GREEN, "Past Games Resync: " + (sessions.isEmpty() ? "None" : sessions.size() + " Server(s)")));
+        for (Map.Entry<RegisteredServer, PastGameSyncSession> entry : sessions.entrySet()) {
+            PastGameSyncSession session = entry.getValue();
+            sender.sendMessage(m(NamedTextColor.GREEN, "- " + entry.getKey().getServerInfo().getName() + ": " + session.getCompletedGames() + " / " + session.getTotalGames() + " Games (" + String.format("%.2f", session.getProgress() * 100) + "%, " + session.getInFlightBatches() + " Batches In Flight)"));
+        }
+        sender.sendMessage(m(NamedTextColor.YELLOW, "Compressed Messages: " + framing.getCompressedMessages() + " (" + StringUtils.formatComma(framing.getCompressionInputBytes() / 1024) + " KB -> " + StringUtils.formatComma(framing.getCompressionOutputBytes() / 1024) + " KB, Ratio " + String.format("%.2f", framing.getCompressionRatio() * 100) + "%)"));
+    }
+
     public static void debugLotteryPlayer(CommandSource sender, String name, UUID uuid, int maxPastGames) {
         sender.sendMessage(m(NamedTextColor.AQUA, "LotterySix Player Info ----"));
         sender.sendMessage(m(NamedTextColor.YELLOW, "Name: " + name));
@@ -159,6 +159,7 @@ public class LotterySixVelocity {
             public void run() {
                 pluginMessageVelocity.updateCurrentGameData();
                 pluginMessageVelocity.updateLockState(instance.isGameLocked());
+                pluginMessageVelocity.resendPastGameSyncBatches();
             }
         }, 0, 10000);
 
@@ -282,6 +283,7 @@ public class LotterySixVelocity {
                 if (opt.isPresent()) {
                     LotteryPlayer lotteryPlayer = instance.getLotteryPlayerManager().getLotteryPlayer(player.getUniqueId());
                     notifyOfflineBalanceChange(lotteryPlayer);
+                    pluginMessageVelocity.requestWireCodecHandshake(opt.get().getServer());
                     pluginMessageVelocity.updateCurrentGameData(opt.get().getServer());
                     pluginMessageVelocity.requestPastGameSyncCheck(opt.get().getServer());
                     pluginMessageVelocity.syncPlayerData(lotteryPlayer);
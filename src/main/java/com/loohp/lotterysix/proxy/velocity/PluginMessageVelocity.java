@@ -22,10 +22,11 @@ package com.loohp.lotterysix.proxy.velocity;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.gson.Gson;
 import com.loohp.lotterysix.game.LotterySix;
 import com.loohp.lotterysix.game.lottery.CompletedLotterySixGame;
 import com.loohp.lotterysix.game.lottery.CompletedLotterySixGameIndex;
+import com.loohp.lotterysix.game.lottery.CurrentGameJournal;
+import com.loohp.lotterysix.game.lottery.CurrentGameRevisionLog;
 import com.loohp.lotterysix.game.lottery.ILotterySixGame;
 import com.loohp.lotterysix.game.lottery.PlayableLotterySixGame;
 import com.loohp.lotterysix.game.objects.AddBetResult;
@@ -38,7 +39,8 @@ import com.loohp.lotterysix.game.objects.PlayerPreferenceKey;
 import com.loohp.lotterysix.game.objects.PlayerStatsKey;
 import com.loohp.lotterysix.game.objects.betnumbers.BetNumbers;
 import com.loohp.lotterysix.game.player.LotteryPlayer;
-import com.loohp.lotterysix.utils.ArrayUtils;
+import com.loohp.lotterysix.pluginmessaging.PastGameSyncSession;
+import com.loohp.lotterysix.pluginmessaging.PluginMessageFraming;
 import com.loohp.lotterysix.utils.DataTypeIO;
 import com.loohp.lotterysix.utils.SyncUtils;
 import com.velocitypowered.api.event.Subscribe;
@@ -48,14 +50,13 @@ import com.velocitypowered.api.proxy.ServerConnection;
 import com.velocitypowered.api.proxy.messages.ChannelMessageSource;
 import com.velocitypowered.api.proxy.server.RegisteredServer;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -70,26 +71,37 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 public class PluginMessageVelocity {
 
-    private static final Gson GSON = new Gson();
     private static final byte[] EMPTY_DATA_ARRAY = new byte[0];
+    private static final int CURRENT_GAME_NONE = 0;
+    private static final int CURRENT_GAME_SNAPSHOT = 1;
+    private static final int CURRENT_GAME_DELTA = 2;
 
     private LotterySix instance;
 
-    private final Map<Integer, ByteArrayOutputStream> incomingMessages;
+    private final PluginMessageFraming framing;
     private final Random random;
     private final Map<RegisteredServer, AtomicInteger> sequenceCounter;
     private final AtomicInteger lastReceivedSequence;
     private final Executor executor;
+    private final Map<RegisteredServer, SyncedRevision> currentGameRevisions;
+    private final Map<RegisteredServer, Integer> wireCodecs;
+    private final Set<RegisteredServer> compressionServers;
+    private final Map<RegisteredServer, PastGameSyncSession> pastGameSyncSessions;
+    private final Executor pastGameSyncExecutor;
 
     private final Map<Integer, CompletableFuture<Boolean>> takeMoneyRequests;
     private final Map<Integer, CompletableFuture<Boolean>> inventoryOpenedCompletion;
 
     public PluginMessageVelocity(LotterySix instance) {
         this.instance = instance;
-        this.incomingMessages = new ConcurrentHashMap<>();
+        this.framing = new PluginMessageFraming();
         this.random = new Random();
         this.sequenceCounter = new ConcurrentHashMap<>();
         this.lastReceivedSequence = new AtomicInteger();
+        this.currentGameRevisions = new ConcurrentHashMap<>();
+        this.wireCodecs = new ConcurrentHashMap<>();
+        this.compressionServers = ConcurrentHashMap.newKeySet();
+        this.pastGameSyncSessions = new ConcurrentHashMap<>();
 
         Cache<Integer, CompletableFuture<Boolean>> takeMoneyRequestsCache = CacheBuilder.newBuilder().weakValues().build();
         this.takeMoneyRequests = takeMoneyRequestsCache.asMap();
@@ -97,6 +109,15 @@ public class PluginMessageVelocity {
         this.inventoryOpenedCompletion = inventoryOpenedCompletionCache.asMap();
 
         this.executor = Executors.newSingleThreadExecutor();
+        this.pastGameSyncExecutor = Executors.newFixedThreadPool(PastGameSyncSession.WINDOW_SIZE);
+    }
+
+    public Map<RegisteredServer, PastGameSyncSession> getPastGameSyncSessions() {
+        return Collections.unmodifiableMap(pastGameSyncSessions);
+    }
+
+    public PluginMessageFraming getFraming() {
+        return framing;
     }
 
     public void setInstance(LotterySix instance) {
@@ -120,31 +141,18 @@ public class PluginMessageVelocity {
 
             RegisteredServer senderServer = ((ServerConnection) source).getServer();
 
-            byte[] packet = Arrays.copyOf(event.getData(), event.getData().length);
-            DataInputStream inputStream = new DataInputStream(new ByteArrayInputStream(packet));
-
-            int sequenceId = inputStream.readInt();
-            int packetId = inputStream.readShort();
-            boolean end = inputStream.readBoolean();
-            ByteArrayOutputStream buffer = incomingMessages.get(sequenceId);
-            if (buffer == null) {
-                incomingMessages.putIfAbsent(sequenceId, buffer = new ByteArrayOutputStream());
-            }
-            byte[] b = new byte[1024];
-            int nRead;
-            while ((nRead = inputStream.read(b, 0, b.length)) != -1) {
-                buffer.write(b, 0, nRead);
-            }
-
-            if (!end) {
+            PluginMessageFraming.Message assembled = framing.accept(senderServer, event.getData());
+            if (assembled == null) {
                 return;
             }
-            incomingMessages.remove(sequenceId);
 
-            DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+            int sequenceId = assembled.getSequenceId();
+            int header = assembled.getPacketId();
+            int packetId = header & 0xFF;
+            int codec = (header >> 8) & 0xFF;
             
             LotterySixVelocity.proxyServer.getScheduler().buildTask(LotterySixVelocity.plugin, () -> {
-                try {
+                try (DataInputStream in = assembled.getInputStream()) {
                     SyncUtils.blockUntilTrue(() -> sequenceId <= lastReceivedSequence.get() + 1, 250);
                     switch (packetId) {
                         case 0x00: { //Request Add Bet
@@ -157,7 +165,7 @@ public class PluginMessageVelocity {
                                 int size = in.readInt();
                                 List<BetNumbers> betNumbers = new ArrayList<>(size);
                                 for (int i = 0; i < size; i++) {
-                                    betNumbers.add(GSON.fromJson(DataTypeIO.readString(in, StandardCharsets.UTF_8), BetNumbers.class));
+                                    betNumbers.add(DataTypeIO.readWireBetNumbers(in, codec));
                                 }
                                 int multipleDraw = in.readInt();
                                 game.addBet(name, player, bet, type, betNumbers, multipleDraw);
@@ -201,7 +209,7 @@ public class PluginMessageVelocity {
                         case 0x05: { //Update Player Stats
                             UUID player = DataTypeIO.readUUID(in);
                             PlayerStatsKey key = PlayerStatsKey.values()[in.readInt()];
-                            Object value = GSON.fromJson(DataTypeIO.readString(in, StandardCharsets.UTF_8), key.getValueTypeClass());
+                            Object value = DataTypeIO.readWireStatsValue(in, key, codec);
                             LotteryPlayer lotteryPlayer = instance.getLotteryPlayerManager().getLotteryPlayer(player);
                             lotteryPlayer.setStats(key, value);
                             syncPlayerData(lotteryPlayer);
@@ -232,6 +240,32 @@ public class PluginMessageVelocity {
                             }
                             break;
                         }
+                        case 0x08: { //Request Current Game Snapshot
+                            updateCurrentGameData(senderServer);
+                            break;
+                        }
+                        case 0x09: { //Wire Codec Handshake Response
+                            wireCodecs.put(senderServer, DataTypeIO.negotiateWireCodec(in.readInt()));
+                            if (in.readBoolean() && instance.pluginMessageCompressionThreshold >= 0) {
+                                compressionServers.add(senderServer);
+                            } else {
+                                compressionServers.remove(senderServer);
+                            }
+                            break;
+                        }
+                        case 0x0A: { //Past Games Sync Batch Acknowledgement
+                            int sessionId = in.readInt();
+                            int batchIndex = in.readInt();
+                            PastGameSyncSession session = pastGameSyncSessions.get(senderServer);
+                            if (session != null && session.getSessionId() == sessionId && session.acknowledge(batchIndex)) {
+                                if (session.isComplete()) {
+                                    pastGameSyncSessions.remove(senderServer, session);
+                                } else {
+                                    sendPastGameSyncBatches(senderServer, session);
+                                }
+                            }
+                            break;
+                        }
                     }
                     lastReceivedSequence.updateAndGet(i -> Math.max(i, sequenceId));
                 } catch (IOException e) {
@@ -244,125 +278,144 @@ public class PluginMessageVelocity {
     }
 
     private void sendData(RegisteredServer info, int packetId, byte[] data) {
+        sendData(info, packetId, DataTypeIO.WIRE_CODEC_JSON, data);
+    }
+
+    private void sendData(RegisteredServer info, int packetId, int codec, byte[] data) {
         executor.execute(() -> {
             int sequenceId = sequenceCounter.computeIfAbsent(info, e -> new AtomicInteger()).getAndIncrement();
             try {
-                byte[][] dataArray = ArrayUtils.divideArray(data, 32700);
-
-                for (int i = 0; i < dataArray.length; i++) {
-                    byte[] chunk = dataArray[i];
-
-                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-                    DataOutputStream out = new DataOutputStream(outputStream);
-                    out.writeInt(sequenceId);
-
-                    out.writeShort(packetId);
-                    out.writeBoolean(i == (dataArray.length - 1));
-
-                    out.write(chunk);
-                    info.sendPluginMessage(LSChannelIdentifier.INSTANCE, outputStream.toByteArray());
-                }
+                int compressionThreshold = compressionServers.contains(info) ? instance.pluginMessageCompressionThreshold : -1;
+                framing.writeFrames(sequenceId, packetId | (codec << 8), data, compressionThreshold, frame -> info.sendPluginMessage(LSChannelIdentifier.INSTANCE, frame));
             } catch (Exception e) {
                 e.printStackTrace();
             }
         });
     }
 
-    public void updateCurrentGameData() {
-        PlayableLotterySixGame game = instance.getCurrentGame();
+    private void broadcastData(int packetId, WirePayloadWriter writer) throws IOException {
+        byte[][] encoded = new byte[DataTypeIO.WIRE_CODEC_VERSION + 1][];
+        for (RegisteredServer info : LotterySixVelocity.proxyServer.getAllServers()) {
+            int codec = getWireCodec(info);
+            if (encoded[codec] == null) {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                writer.write(new DataOutputStream(outputStream), codec);
+                encoded[codec] = outputStream.toByteArray();
+            }
+            sendData(info, packetId, codec, encoded[codec]);
+        }
+    }
+
+    private int getWireCodec(RegisteredServer target) {
+        return wireCodecs.getOrDefault(target, DataTypeIO.WIRE_CODEC_JSON);
+    }
+
+    public void requestWireCodecHandshake(RegisteredServer target) {
         try {
+            wireCodecs.remove(target);
+            compressionServers.remove(target);
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             DataOutputStream out = new DataOutputStream(outputStream);
-            if (game == null) {
-                out.writeBoolean(false);
-            } else {
-                out.writeBoolean(true);
-
-                DataTypeIO.writeUUID(out, game.getGameId());
-                out.writeLong(game.getDatetime());
-                DataTypeIO.writeGameNumber(out, game.getGameNumber());
-                if (game.hasSpecialName()) {
-                    out.writeBoolean(true);
-                    DataTypeIO.writeString(out, game.getSpecialName(), StandardCharsets.UTF_8);
-                } else {
-                    out.writeBoolean(false);
-                }
-                out.writeInt(game.getNumberStatistics().size());
-                for (Map.Entry<Integer, NumberStatistics> entry : game.getNumberStatistics().entrySet()) {
-                    out.writeByte(entry.getKey());
-                    DataTypeIO.writeNumberStatistics(out, entry.getValue());
-                }
-                out.writeLong(game.getCarryOverFund());
-                out.writeLong(game.getLowestTopPlacesPrize());
-                out.writeBoolean(game.isValid());
-
-                Set<UUID> betIds = game.getBetIds();
-                out.writeInt(betIds.size());
-                for (UUID betId : betIds) {
-                    DataTypeIO.writeUUID(out, betId);
-                }
-            }
-            for (RegisteredServer info : LotterySixVelocity.proxyServer.getAllServers()) {
-                sendData(info, 0x00, outputStream.toByteArray());
-            }
+            out.writeInt(DataTypeIO.WIRE_CODEC_VERSION);
+            out.writeBoolean(instance.pluginMessageCompressionThreshold >= 0);
+            sendData(target, 0x13, outputStream.toByteArray());
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    public void updateCurrentGameData() {
+        for (RegisteredServer info : LotterySixVelocity.proxyServer.getAllServers()) {
+            updateCurrentGameData(info, false);
+        }
+    }
+
     public void updateCurrentGameData(RegisteredServer target) {
+        updateCurrentGameData(target, true);
+    }
+
+    private synchronized void updateCurrentGameData(RegisteredServer target, boolean snapshot) {
         PlayableLotterySixGame game = instance.getCurrentGame();
+        int codec = getWireCodec(target);
         try {
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             DataOutputStream out = new DataOutputStream(outputStream);
             if (game == null) {
-                out.writeBoolean(false);
+                out.writeByte(CURRENT_GAME_NONE);
+                currentGameRevisions.remove(target);
             } else {
-                out.writeBoolean(true);
-
-                DataTypeIO.writeUUID(out, game.getGameId());
-                out.writeLong(game.getDatetime());
-                DataTypeIO.writeGameNumber(out, game.getGameNumber());
-                if (game.hasSpecialName()) {
-                    out.writeBoolean(true);
-                    DataTypeIO.writeString(out, game.getSpecialName(), StandardCharsets.UTF_8);
+                CurrentGameRevisionLog revisionLog = game.getRevisionLog();
+                SyncedRevision synced = currentGameRevisions.get(target);
+                CurrentGameRevisionLog.Delta delta = snapshot || synced == null || !synced.gameId.equals(game.getGameId()) ? null : revisionLog.getChangesSince(synced.revision);
+                if (delta == null) {
+                    long revision = revisionLog.getRevision();
+                    out.writeByte(CURRENT_GAME_SNAPSHOT);
+                    DataTypeIO.writeUUID(out, game.getGameId());
+                    out.writeLong(revision);
+                    writeCurrentGameHeader(out, game);
+
+                    Set<UUID> betIds = game.getBetIds();
+                    out.writeInt(betIds.size());
+                    for (UUID betId : betIds) {
+                        DataTypeIO.writeUUID(out, betId);
+                    }
+                    currentGameRevisions.put(target, new SyncedRevision(game.getGameId(), revision));
                 } else {
-                    out.writeBoolean(false);
-                }
-                out.writeInt(game.getNumberStatistics().size());
-                for (Map.Entry<Integer, NumberStatistics> entry : game.getNumberStatistics().entrySet()) {
-                    out.writeByte(entry.getKey());
-                    DataTypeIO.writeNumberStatistics(out, entry.getValue());
-                }
-                out.writeLong(game.getCarryOverFund());
-                out.writeLong(game.getLowestTopPlacesPrize());
-                out.writeBoolean(game.isValid());
-
-                Set<UUID> betIds = game.getBetIds();
-                out.writeInt(betIds.size());
-                for (UUID betId : betIds) {
-                    DataTypeIO.writeUUID(out, betId);
+                    out.writeByte(CURRENT_GAME_DELTA);
+                    DataTypeIO.writeUUID(out, game.getGameId());
+                    out.writeLong(delta.getFromRevision());
+                    out.writeLong(delta.getToRevision());
+                    out.writeBoolean(delta.isHeaderChanged());
+                    if (delta.isHeaderChanged()) {
+                        writeCurrentGameHeader(out, game);
+                    }
+                    out.writeInt(delta.getEntries().size());
+                    for (CurrentGameJournal.Entry entry : delta.getEntries()) {
+                        out.writeBoolean(entry.isAdded());
+                        if (entry.isAdded()) {
+                            DataTypeIO.writeWirePlayerBets(out, entry.getBet(), codec);
+                        } else {
+                            DataTypeIO.writeUUID(out, entry.getBetId());
+                        }
+                    }
+                    currentGameRevisions.put(target, new SyncedRevision(game.getGameId(), delta.getToRevision()));
                 }
             }
-            sendData(target, 0x00, outputStream.toByteArray());
+            sendData(target, 0x00, codec, outputStream.toByteArray());
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    private static void writeCurrentGameHeader(DataOutputStream out, PlayableLotterySixGame game) throws IOException {
+        out.writeLong(game.getDatetime());
+        DataTypeIO.writeGameNumber(out, game.getGameNumber());
+        if (game.hasSpecialName()) {
+            out.writeBoolean(true);
+            DataTypeIO.writeString(out, game.getSpecialName(), StandardCharsets.UTF_8);
+        } else {
+            out.writeBoolean(false);
+        }
+        out.writeInt(game.getNumberStatistics().size());
+        for (Map.Entry<Integer, NumberStatistics> entry : game.getNumberStatistics().entrySet()) {
+            out.writeByte(entry.getKey());
+            DataTypeIO.writeNumberStatistics(out, entry.getValue());
+        }
+        out.writeLong(game.getCarryOverFund());
+        out.writeLong(game.getLowestTopPlacesPrize());
+        out.writeBoolean(game.isValid());
+    }
+
     public void updateLastResultData() {
         if (instance.getCompletedGames().isEmpty()) {
             return;
         }
         CompletedLotterySixGame game = instance.getCompletedGames().get(0);
         try {
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            DataOutputStream out = new DataOutputStream(outputStream);
-            DataTypeIO.writeUUID(out, game.getGameId());
-            DataTypeIO.writeString(out, GSON.toJson(game), StandardCharsets.UTF_8);
-            for (RegisteredServer info : LotterySixVelocity.proxyServer.getAllServers()) {
-                sendData(info, 0x01, outputStream.toByteArray());
-            }
+            broadcastData(0x01, (out, codec) -> {
+                DataTypeIO.writeUUID(out, game.getGameId());
+                DataTypeIO.writeWireCompletedGame(out, game, codec);
+            });
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -464,15 +517,12 @@ public class PluginMessageVelocity {
 
     public void callPlayerBetEvent(UUID uuid, BetNumbers numbers, long price, AddBetResult result) {
         try {
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            DataOutputStream out = new DataOutputStream(outputStream);
-            DataTypeIO.writeUUID(out, uuid);
-            out.writeLong(price);
-            out.writeInt(result.ordinal());
-            DataTypeIO.writeString(out, GSON.toJson(numbers), StandardCharsets.UTF_8);
-            for (RegisteredServer info : LotterySixVelocity.proxyServer.getAllServers()) {
-                sendData(info, 0x08, outputStream.toByteArray());
-            }
+            broadcastData(0x08, (out, codec) -> {
+                DataTypeIO.writeUUID(out, uuid);
+                out.writeLong(price);
+                out.writeInt(result.ordinal());
+                DataTypeIO.writeWireBetNumbers(out, numbers, codec);
+            });
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -502,29 +552,94 @@ public class PluginMessageVelocity {
     }
 
     public void respondPastGameSyncCheckResult(RegisteredServer target, Set<UUID> gameIds) {
+        PastGameSyncSession current = pastGameSyncSessions.get(target);
+        if (current != null && !current.isStalled(System.currentTimeMillis())) {
+            return;
+        }
+        List<CompletedLotterySixGameIndex> games = new ArrayList<>();
+        Set<UUID> notExist = new HashSet<>(gameIds);
+        for (CompletedLotterySixGameIndex gameIndex : instance.getCompletedGames().indexIterable()) {
+            notExist.remove(gameIndex.getGameId());
+            if (!gameIds.contains(gameIndex.getGameId())) {
+                games.add(gameIndex);
+            }
+        }
+        if (games.isEmpty() && notExist.isEmpty()) {
+            pastGameSyncSessions.remove(target);
+            return;
+        }
+        PastGameSyncSession session = new PastGameSyncSession(random.nextInt(), games);
         try {
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             DataOutputStream out = new DataOutputStream(outputStream);
-            List<CompletedLotterySixGameIndex> games = new ArrayList<>();
-            Set<UUID> notExist = new HashSet<>(gameIds);
-            for (CompletedLotterySixGameIndex gameIndex : instance.getCompletedGames().indexIterable()) {
-                notExist.remove(gameIndex.getGameId());
-                if (!gameIds.contains(gameIndex.getGameId())) {
-                    games.add(gameIndex);
-                }
-            }
-            out.writeInt(games.size());
-            for (CompletedLotterySixGameIndex gameIndex : games) {
-                DataTypeIO.writeUUID(out, gameIndex.getGameId());
-                DataTypeIO.writeString(out, GSON.toJson(instance.getCompletedGames().get(gameIndex)), StandardCharsets.UTF_8);
-            }
+            out.writeInt(session.getSessionId());
+            out.writeInt(session.getTotalGames());
+            out.writeInt(session.getTotalBatches());
             out.writeInt(notExist.size());
             for (UUID id : notExist) {
                 DataTypeIO.writeUUID(out, id);
             }
-            sendData(target, 0x0C, outputStream.toByteArray());
+            sendData(target, 0x14, outputStream.toByteArray());
         } catch (IOException e) {
             e.printStackTrace();
+            return;
+        }
+        if (session.isComplete()) {
+            pastGameSyncSessions.remove(target);
+        } else {
+            pastGameSyncSessions.put(target, session);
+            sendPastGameSyncBatches(target, session);
+        }
+    }
+
+    public void resendPastGameSyncBatches() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<RegisteredServer, PastGameSyncSession> entry : pastGameSyncSessions.entrySet()) {
+            RegisteredServer target = entry.getKey();
+            PastGameSyncSession session = entry.getValue();
+            if (session.isStalled(now)) {
+                // the backend stopped acknowledging altogether, start over from a fresh check
+                if (pastGameSyncSessions.remove(target, session)) {
+                    requestPastGameSyncCheck(target);
+                }
+            } else {
+                sendPastGameSyncBatches(target, session);
+            }
+        }
+    }
+
+    private void sendPastGameSyncBatches(RegisteredServer target, PastGameSyncSession session) {
+        PastGameSyncSession.Batch batch;
+        while ((batch = session.pollBatch()) != null) {
+            PastGameSyncSession.Batch pendingBatch = batch;
+            pastGameSyncExecutor.execute(() -> {
+                if (pastGameSyncSessions.get(target) != session) {
+                    return;
+                }
+                try {
+                    int codec = getWireCodec(target);
+                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                    DataOutputStream out = new DataOutputStream(outputStream);
+                    List<CompletedLotterySixGame> games = new ArrayList<>(pendingBatch.getGames().size());
+                    for (CompletedLotterySixGameIndex gameIndex : pendingBatch.getGames()) {
+                        CompletedLotterySixGame game = instance.getCompletedGames().get(gameIndex);
+                        if (game != null) {
+                            games.add(game);
+                        }
+                    }
+                    out.writeInt(session.getSessionId());
+                    out.writeInt(pendingBatch.getBatchIndex());
+                    out.writeInt(games.size());
+                    for (CompletedLotterySixGame game : games) {
+                        DataTypeIO.writeUUID(out, game.getGameId());
+                        DataTypeIO.writeWireCompletedGame(out, game, codec);
+                    }
+                    sendData(target, 0x0C, codec, outputStream.toByteArray());
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    session.failed(pendingBatch.getBatchIndex());
+                }
+            });
         }
     }
 
@@ -569,13 +684,10 @@ public class PluginMessageVelocity {
 
     public void syncPlayerData(LotteryPlayer player) {
         try {
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            DataOutputStream out = new DataOutputStream(outputStream);
-            DataTypeIO.writeUUID(out, player.getPlayer());
-            DataTypeIO.writeString(out, GSON.toJson(player), StandardCharsets.UTF_8);
-            for (RegisteredServer info : LotterySixVelocity.proxyServer.getAllServers()) {
-                sendData(info, 0x0F, outputStream.toByteArray());
-            }
+            broadcastData(0x0F, (out, codec) -> {
+                DataTypeIO.writeUUID(out, player.getPlayer());
+                DataTypeIO.writeWireLotteryPlayer(out, player, codec);
+            });
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -621,17 +733,36 @@ public class PluginMessageVelocity {
 
     public void respondCurrentGameBets(RegisteredServer target, UUID gameId, List<PlayerBets> bets) {
         try {
+            int codec = getWireCodec(target);
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             DataOutputStream out = new DataOutputStream(outputStream);
             DataTypeIO.writeUUID(out, gameId);
             out.writeInt(bets.size());
             for (PlayerBets bet : bets) {
-                DataTypeIO.writeString(out, GSON.toJson(bet), StandardCharsets.UTF_8);
+                DataTypeIO.writeWirePlayerBets(out, bet, codec);
             }
-            sendData(target, 0x12, outputStream.toByteArray());
+            sendData(target, 0x12, codec, outputStream.toByteArray());
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    private interface WirePayloadWriter {
+
+        void write(DataOutputStream out, int codec) throws IOException;
+
+    }
+
+    private static class SyncedRevision {
+
+        private final UUID gameId;
+        private final long revision;
+
+        private SyncedRevision(UUID gameId, long revision) {
+            this.gameId = gameId;
+            this.revision = revision;
+        }
+
+    }
+
 }
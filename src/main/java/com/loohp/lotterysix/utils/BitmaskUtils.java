@@ -0,0 +1,132 @@
+/*
+ * This file is part of LotterySix.
+ *
+ * Copyright (C) 2025. LoohpJames <jamesloohp@gmail.com>
+ * Copyright (C) 2025. Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.loohp.lotterysix.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+public class BitmaskUtils {
+
+    public static final int MAX_NUMBER = Long.SIZE;
+
+    public static final Comparator<Long> LEXICOGRAPHIC_ORDER = (a, b) -> {
+        long difference = a ^ b;
+        if (difference == 0) {
+            return 0;
+        }
+        return (a & Long.lowestOneBit(difference)) != 0 ? -1 : 1;
+    };
+
+    public static boolean isRepresentable(int number) {
+        return number >= 1 && number <= MAX_NUMBER;
+    }
+
+    public static long bit(int number) {
+        return 1L << (number - 1);
+    }
+
+    public static long toBitmask(Collection<Integer> numbers) {
+        long mask = 0;
+        for (int number : numbers) {
+            mask |= bit(number);
+        }
+        return mask;
+    }
+
+    public static long toBitmask(int[] numbers) {
+        long mask = 0;
+        for (int number : numbers) {
+            mask |= bit(number);
+        }
+        return mask;
+    }
+
+    public static boolean isRepresentable(Collection<Integer> numbers) {
+        for (int number : numbers) {
+            if (!isRepresentable(number)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void forEachCombination(long mask, int size, long base, LongConsumer consumer) {
+        long[] bits = new long[Long.bitCount(mask)];
+        for (int i = 0; mask != 0; i++) {
+            bits[i] = Long.lowestOneBit(mask);
+            mask &= mask - 1;
+        }
+        int length = bits.length;
+        if (size < 0 || size > length) {
+            return;
+        }
+        if (size == 0) {
+            consumer.accept(base);
+            return;
+        }
+        int[] indexes = new int[size];
+        long[] masks = new long[size + 1];
+        masks[0] = base;
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+            masks[i + 1] = masks[i] | bits[i];
+        }
+        while (true) {
+            consumer.accept(masks[size]);
+            int i = size - 1;
+            while (i >= 0 && indexes[i] == length - size + i) {
+                i--;
+            }
+            if (i < 0) {
+                return;
+            }
+            indexes[i]++;
+            masks[i + 1] = masks[i] | bits[indexes[i]];
+            for (int u = i + 1; u < size; u++) {
+                indexes[u] = indexes[u - 1] + 1;
+                masks[u + 1] = masks[u] | bits[indexes[u]];
+            }
+        }
+    }
+
+    public static List<Integer> toNumbers(long mask) {
+        List<Integer> numbers = new ArrayList<>(Long.bitCount(mask));
+        while (mask != 0) {
+            numbers.add(Long.numberOfTrailingZeros(mask) + 1);
+            mask &= mask - 1;
+        }
+        return numbers;
+    }
+
+    public static int[] toNumberArray(long mask) {
+        int[] numbers = new int[Long.bitCount(mask)];
+        int i = 0;
+        while (mask != 0) {
+            numbers[i++] = Long.numberOfTrailingZeros(mask) + 1;
+            mask &= mask - 1;
+        }
+        return numbers;
+    }
+
+}
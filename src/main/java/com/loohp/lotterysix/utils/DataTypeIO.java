@@ -20,19 +20,45 @@
 
 package com.loohp.lotterysix.utils;
 
+import com.google.gson.Gson;
+import com.loohp.lotterysix.game.lottery.CompletedLotterySixGame;
+import com.loohp.lotterysix.game.lottery.CompletedLotterySixGameCodec;
 import com.loohp.lotterysix.game.lottery.GameNumber;
+import com.loohp.lotterysix.game.objects.BetUnitType;
 import com.loohp.lotterysix.game.objects.NumberStatistics;
+import com.loohp.lotterysix.game.objects.PlayerBets;
+import com.loohp.lotterysix.game.objects.PlayerPreferenceKey;
+import com.loohp.lotterysix.game.objects.PlayerStatsKey;
+import com.loohp.lotterysix.game.objects.PlayerWinnings;
+import com.loohp.lotterysix.game.objects.PrizeTier;
+import com.loohp.lotterysix.game.objects.WinningCombination;
 import com.loohp.lotterysix.game.objects.WinningNumbers;
+import com.loohp.lotterysix.game.objects.betnumbers.BetNumbers;
+import com.loohp.lotterysix.game.objects.betnumbers.BetNumbersType;
+import com.loohp.lotterysix.game.player.LotteryPlayer;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public class DataTypeIO {
 
+    public static final int WIRE_CODEC_JSON = 0;
+    public static final int WIRE_CODEC_BINARY = 1;
+    public static final int WIRE_CODEC_VERSION = WIRE_CODEC_BINARY;
+
+    private static final Gson GSON = new Gson();
+
     public static UUID readUUID(DataInputStream in) throws IOException {
         return new UUID(in.readLong(), in.readLong());
     }
@@ -78,4 +104,379 @@ public class DataTypeIO {
         out.writeInt(statistics.getTimesDrawn());
     }
 
-}
+    public static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift >= 35) {
+                throw new IOException("VarInt too big");
+            }
+            b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    public static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift >= 70) {
+                throw new IOException("VarLong too big");
+            }
+            b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    public static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    public static long readSignedVarLong(DataInputStream in) throws IOException {
+        long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public static void writeSignedVarLong(DataOutputStream out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    public static String readVarString(DataInputStream in) throws IOException {
+        byte[] b = new byte[readVarInt(in)];
+        in.readFully(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    public static void writeVarString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    public static String readNullableVarString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readVarString(in) : null;
+    }
+
+    public static void writeNullableVarString(DataOutputStream out, String string) throws IOException {
+        out.writeBoolean(string != null);
+        if (string != null) {
+            writeVarString(out, string);
+        }
+    }
+
+    public static List<Integer> readNumbers(DataInputStream in) throws IOException {
+        int size = readVarInt(in);
+        List<Integer> numbers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            numbers.add(readVarInt(in));
+        }
+        return numbers;
+    }
+
+    public static void writeNumbers(DataOutputStream out, Collection<Integer> numbers) throws IOException {
+        writeVarInt(out, numbers.size());
+        for (int number : numbers) {
+            writeVarInt(out, number);
+        }
+    }
+
+    public static WinningNumbers readWinningNumbers(DataInputStream in) throws IOException {
+        List<Integer> numbers = readNumbers(in);
+        return new WinningNumbers(numbers, readVarInt(in));
+    }
+
+    public static void writeWinningNumbers(DataOutputStream out, WinningNumbers winningNumbers) throws IOException {
+        writeNumbers(out, winningNumbers.getNumbers());
+        writeVarInt(out, winningNumbers.getSpecialNumber());
+    }
+
+    public static BetNumbers readBetNumbers(DataInputStream in) throws IOException {
+        BetNumbersType type = BetNumbersType.values()[in.readUnsignedByte()];
+        boolean bitmask = in.readBoolean();
+        Collection<Integer> bankers = null;
+        if (type.isBanker()) {
+            bankers = bitmask ? BitmaskUtils.toNumbers(readVarLong(in)) : readNumbers(in);
+        }
+        Collection<Integer> numbers = bitmask ? BitmaskUtils.toNumbers(readVarLong(in)) : readNumbers(in);
+        int additionalSize = readVarInt(in);
+        List<Collection<Integer>> additionalSets = new ArrayList<>(additionalSize);
+        for (int i = 0; i < additionalSize; i++) {
+            additionalSets.add(bitmask ? BitmaskUtils.toNumbers(readVarLong(in)) : readNumbers(in));
+        }
+        return BetNumbers.restore(bankers, numbers, additionalSets, type);
+    }
+
+    public static void writeBetNumbers(DataOutputStream out, BetNumbers betNumbers) throws IOException {
+        boolean bitmask = betNumbers.isBitmaskRepresentable();
+        out.writeByte(betNumbers.getType().ordinal());
+        out.writeBoolean(bitmask);
+        if (betNumbers.getType().isBanker()) {
+            if (bitmask) {
+                writeVarLong(out, betNumbers.getBankersBitmask());
+            } else {
+                writeNumbers(out, betNumbers.getBankersNumbers());
+            }
+        }
+        if (bitmask) {
+            writeVarLong(out, betNumbers.getNumbersBitmask());
+        } else {
+            writeNumbers(out, betNumbers.getNumbers());
+        }
+        List<Set<Integer>> additionalSets = betNumbers.getAdditionalSets();
+        writeVarInt(out, additionalSets.size());
+        for (Set<Integer> additional : additionalSets) {
+            if (bitmask) {
+                writeVarLong(out, BitmaskUtils.toBitmask(additional));
+            } else {
+                writeNumbers(out, additional);
+            }
+        }
+    }
+
+    public static PlayerBets readPlayerBets(DataInputStream in) throws IOException {
+        UUID betId = readUUID(in);
+        String name = readVarString(in);
+        UUID player = readUUID(in);
+        long timePlaced = readVarLong(in);
+        long nanoTime = readSignedVarLong(in);
+        long bet = readVarLong(in);
+        BetUnitType type = BetUnitType.values()[in.readUnsignedByte()];
+        BetNumbers chosenNumbers = readBetNumbers(in);
+        int multipleDraw = readVarInt(in);
+        int drawsRemaining = readVarInt(in);
+        return PlayerBets.restore(betId, name, player, timePlaced, nanoTime, bet, type, chosenNumbers, multipleDraw, drawsRemaining);
+    }
+
+    public static void writePlayerBets(DataOutputStream out, PlayerBets playerBets) throws IOException {
+        writeUUID(out, playerBets.getBetId());
+        writeVarString(out, playerBets.getName());
+        writeUUID(out, playerBets.getPlayer());
+        writeVarLong(out, playerBets.getTimePlaced());
+        writeSignedVarLong(out, playerBets.getNanoTime());
+        writeVarLong(out, playerBets.getBet());
+        out.writeByte(playerBets.getType().ordinal());
+        writeBetNumbers(out, playerBets.getChosenNumbers());
+        writeVarInt(out, playerBets.getMultipleDraw());
+        writeVarInt(out, playerBets.getDrawsRemaining());
+    }
+
+    public static PlayerWinnings readPlayerWinnings(DataInputStream in) throws IOException {
+        String name = readVarString(in);
+        UUID player = readUUID(in);
+        PrizeTier tier = PrizeTier.values()[in.readUnsignedByte()];
+        UUID winningBetId = readUUID(in);
+        long combination = readVarLong(in);
+        WinningCombination winningCombination = new WinningCombination(combination == 0 ? readNumbers(in) : BitmaskUtils.toNumbers(combination));
+        long winnings = readVarLong(in);
+        return new PlayerWinnings(name, player, tier, winningBetId, winningCombination, winnings);
+    }
+
+    public static void writePlayerWinnings(DataOutputStream out, PlayerWinnings playerWinnings) throws IOException {
+        writeVarString(out, playerWinnings.getName());
+        writeUUID(out, playerWinnings.getPlayer());
+        out.writeByte(playerWinnings.getTier().ordinal());
+        writeUUID(out, playerWinnings.getWinningBetId());
+        Set<Integer> combination = playerWinnings.getWinningCombination().getNumbers();
+        if (!combination.isEmpty() && BitmaskUtils.isRepresentable(combination)) {
+            writeVarLong(out, BitmaskUtils.toBitmask(combination));
+        } else {
+            writeVarLong(out, 0);
+            writeNumbers(out, combination);
+        }
+        writeVarLong(out, playerWinnings.getWinnings());
+    }
+
+    public static int negotiateWireCodec(int peerVersion) {
+        return Math.max(WIRE_CODEC_JSON, Math.min(WIRE_CODEC_VERSION, peerVersion));
+    }
+
+    public static Object readTypedValue(DataInputStream in, Class<?> type) throws IOException {
+        if (type.equals(boolean.class) || type.equals(Boolean.class)) {
+            return in.readBoolean();
+        } else if (type.equals(long.class) || type.equals(Long.class)) {
+            return readSignedVarLong(in);
+        } else if (type.equals(int.class) || type.equals(Integer.class)) {
+            return (int) readSignedVarLong(in);
+        } else if (type.equals(String.class)) {
+            return readNullableVarString(in);
+        } else if (type.isEnum()) {
+            int ordinal = readVarInt(in);
+            return ordinal == 0 ? null : type.getEnumConstants()[ordinal - 1];
+        }
+        throw new IOException("Unsupported value type " + type.getName());
+    }
+
+    public static void writeTypedValue(DataOutputStream out, Class<?> type, Object value) throws IOException {
+        if (type.equals(boolean.class) || type.equals(Boolean.class)) {
+            out.writeBoolean((Boolean) value);
+        } else if (type.equals(long.class) || type.equals(Long.class) || type.equals(int.class) || type.equals(Integer.class)) {
+            writeSignedVarLong(out, ((Number) value).longValue());
+        } else if (type.equals(String.class)) {
+            writeNullableVarString(out, (String) value);
+        } else if (type.isEnum()) {
+            writeVarInt(out, value == null ? 0 : ((Enum<?>) value).ordinal() + 1);
+        } else {
+            throw new IOException("Unsupported value type " + type.getName());
+        }
+    }
+
+    public static Map<PlayerPreferenceKey, Object> readPlayerPreferences(DataInputStream in) throws IOException {
+        int size = readVarInt(in);
+        Map<PlayerPreferenceKey, Object> preferences = new EnumMap<>(PlayerPreferenceKey.class);
+        for (int i = 0; i < size; i++) {
+            PlayerPreferenceKey key = PlayerPreferenceKey.values()[in.readUnsignedByte()];
+            preferences.put(key, readTypedValue(in, key.getValueTypeClass()));
+        }
+        return preferences;
+    }
+
+    public static void writePlayerPreferences(DataOutputStream out, Map<PlayerPreferenceKey, Object> preferences) throws IOException {
+        writeVarInt(out, preferences.size());
+        for (Map.Entry<PlayerPreferenceKey, Object> entry : preferences.entrySet()) {
+            out.writeByte(entry.getKey().ordinal());
+            writeTypedValue(out, entry.getKey().getValueTypeClass(), entry.getValue());
+        }
+    }
+
+    public static Map<PlayerStatsKey, Object> readPlayerStats(DataInputStream in) throws IOException {
+        int size = readVarInt(in);
+        Map<PlayerStatsKey, Object> stats = new EnumMap<>(PlayerStatsKey.class);
+        for (int i = 0; i < size; i++) {
+            PlayerStatsKey key = PlayerStatsKey.values()[in.readUnsignedByte()];
+            Object value = readTypedValue(in, key.getValueTypeClass());
+            if (value != null) {
+                stats.put(key, value);
+            }
+        }
+        return stats;
+    }
+
+    public static void writePlayerStats(DataOutputStream out, Map<PlayerStatsKey, Object> stats) throws IOException {
+        writeVarInt(out, stats.size());
+        for (Map.Entry<PlayerStatsKey, Object> entry : stats.entrySet()) {
+            out.writeByte(entry.getKey().ordinal());
+            writeTypedValue(out, entry.getKey().getValueTypeClass(), entry.getValue());
+        }
+    }
+
+    public static List<PlayerBets> readPlayerBetsList(DataInputStream in) throws IOException {
+        int size = readVarInt(in);
+        List<PlayerBets> bets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            bets.add(readPlayerBets(in));
+        }
+        return bets;
+    }
+
+    public static void writePlayerBetsList(DataOutputStream out, Collection<PlayerBets> bets) throws IOException {
+        writeVarInt(out, bets.size());
+        for (PlayerBets bet : bets) {
+            writePlayerBets(out, bet);
+        }
+    }
+
+    public static BetNumbers readWireBetNumbers(DataInputStream in, int codec) throws IOException {
+        if (codec == WIRE_CODEC_JSON) {
+            return GSON.fromJson(readString(in, StandardCharsets.UTF_8), BetNumbers.class);
+        }
+        return readBetNumbers(in);
+    }
+
+    public static void writeWireBetNumbers(DataOutputStream out, BetNumbers betNumbers, int codec) throws IOException {
+        if (codec == WIRE_CODEC_JSON) {
+            writeString(out, GSON.toJson(betNumbers), StandardCharsets.UTF_8);
+        } else {
+            writeBetNumbers(out, betNumbers);
+        }
+    }
+
+    public static PlayerBets readWirePlayerBets(DataInputStream in, int codec) throws IOException {
+        if (codec == WIRE_CODEC_JSON) {
+            return GSON.fromJson(readString(in, StandardCharsets.UTF_8), PlayerBets.class);
+        }
+        return readPlayerBets(in);
+    }
+
+    public static void writeWirePlayerBets(DataOutputStream out, PlayerBets playerBets, int codec) throws IOException {
+        if (codec == WIRE_CODEC_JSON) {
+            writeString(out, GSON.toJson(playerBets), StandardCharsets.UTF_8);
+        } else {
+            writePlayerBets(out, playerBets);
+        }
+    }
+
+    public static CompletedLotterySixGame readWireCompletedGame(DataInputStream in, int codec) throws IOException {
+        if (codec == WIRE_CODEC_JSON) {
+            return GSON.fromJson(readString(in, StandardCharsets.UTF_8), CompletedLotterySixGame.class);
+        }
+        byte[] b = new byte[readVarInt(in)];
+        in.readFully(b);
+        return CompletedLotterySixGameCodec.decode(b);
+    }
+
+    public static void writeWireCompletedGame(DataOutputStream out, CompletedLotterySixGame game, int codec) throws IOException {
+        if (codec == WIRE_CODEC_JSON) {
+            writeString(out, GSON.toJson(game), StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = CompletedLotterySixGameCodec.encode(game);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    public static Object readWireStatsValue(DataInputStream in, PlayerStatsKey key, int codec) throws IOException {
+        if (codec == WIRE_CODEC_JSON) {
+            return GSON.fromJson(readString(in, StandardCharsets.UTF_8), key.getValueTypeClass());
+        }
+        return readTypedValue(in, key.getValueTypeClass());
+    }
+
+    public static void writeWireStatsValue(DataOutputStream out, PlayerStatsKey key, Object value, int codec) throws IOException {
+        if (codec == WIRE_CODEC_JSON) {
+            writeString(out, GSON.toJson(value, key.getValueTypeClass()), StandardCharsets.UTF_8);
+        } else {
+            writeTypedValue(out, key.getValueTypeClass(), value);
+        }
+    }
+
+    public static void writeWireLotteryPlayer(DataOutputStream out, LotteryPlayer player, int codec) throws IOException {
+        if (codec == WIRE_CODEC_JSON) {
+            writeString(out, GSON.toJson(player), StandardCharsets.UTF_8);
+            return;
+        }
+        Map<PlayerPreferenceKey, Object> preferences = new EnumMap<>(PlayerPreferenceKey.class);
+        for (PlayerPreferenceKey key : PlayerPreferenceKey.values()) {
+            if (player.isPreferenceSet(key)) {
+                preferences.put(key, player.getPreference(key));
+            }
+        }
+        writePlayerPreferences(out, preferences);
+        Map<PlayerStatsKey, Object> stats = new EnumMap<>(PlayerStatsKey.class);
+        for (PlayerStatsKey key : PlayerStatsKey.values()) {
+            if (player.isStatsSet(key)) {
+                stats.put(key, player.getStats(key));
+            }
+        }
+        writePlayerStats(out, stats);
+        writePlayerBetsList(out, player.getMultipleDrawPlayerBets());
+    }
+
+}
\ No newline at end of file
@@ -159,7 +159,7 @@ public class LotteryUtils {
                     .replace("{TotalBets}", () -> StringUtils.formatComma(game.getTotalBets()))
                     .replace("{CarryOverFund}", () -> StringUtils.formatComma(game.getCarryOverFund(lotterySix.estimationRoundToNearest)))
                     .replace("{PrizePool}", () -> StringUtils.formatComma(game.estimatedPrizePool(lotterySix.maxTopPlacesPrize, lotterySix.taxPercentage, lotterySix.estimationRoundToNearest)))
-                    .replace("{BetPlayerNames}", () -> chainPlayerBetNames(game.getBets()));
+                    .replace("{BetPlayerNames}", () -> String.join(", ", game.getBetPlayerNames()));
             for (PrizeTier prizeTier : PrizeTier.values()) {
                 str = str.replace("{" + prizeTier.name() + "Odds}", () -> {
                     double odds = prizeTier.getWinningCriteria().oneOverProbability(lotterySix.numberOfChoices);
@@ -102,6 +102,18 @@ public class MathUtils {
         return result;
     }
 
+    public static long binomial(int n, int k) {
+        if (k < 0 || k > n) {
+            return 0;
+        }
+        k = Math.min(k, n - k);
+        long result = 1;
+        for (int i = 0; i < k; i++) {
+            result = result * (n - i) / (i + 1);
+        }
+        return result;
+    }
+
     public static long combinationsCount(int size, int bankerSize) {
         if (bankerSize <= 0) {
             if (size < NUMBERS_PER_BET) {